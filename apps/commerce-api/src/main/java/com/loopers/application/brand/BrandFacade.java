@@ -1,7 +1,11 @@
 package com.loopers.application.brand;
 
 import com.loopers.domain.brand.Brand;
+import com.loopers.application.product.ProductCacheInvalidator;
+import com.loopers.application.product.ProductSearchIndexer;
 import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductFacetRepository;
+import com.loopers.domain.product.ProductLikeOrderRepository;
 import com.loopers.domain.product.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,6 +18,10 @@ public class BrandFacade {
 
     private final BrandService brandService;
     private final ProductService productService;
+    private final ProductLikeOrderRepository productLikeOrderRepository;
+    private final ProductFacetRepository productFacetRepository;
+    private final ProductCacheInvalidator productCacheInvalidator;
+    private final ProductSearchIndexer productSearchIndexer;
 
     public BrandInfo register(String name, String description, String imageUrl) {
         Brand brand = brandService.register(name, description, imageUrl);
@@ -33,11 +41,17 @@ public class BrandFacade {
 
     public BrandInfo update(Long id, String name, String description, String imageUrl) {
         Brand brand = brandService.update(id, name, description, imageUrl);
+        // 검색 색인에는 브랜드명이 포함되어 있어 해당 브랜드 상품을 다시 색인한다.
+        productSearchIndexer.onBrandChanged(id);
         return BrandInfo.from(brand);
     }
 
     public void delete(Long id) {
         brandService.delete(id);
-        productService.deleteAllByBrandId(id);
+        List<Long> deletedProductIds = productService.deleteAllByBrandId(id);
+        productLikeOrderRepository.removeBrand(id);
+        productFacetRepository.removeBrand(id);
+        productCacheInvalidator.invalidate(id, deletedProductIds);
+        productSearchIndexer.onProductsChanged(deletedProductIds);
     }
 }
@@ -1,4 +1,4 @@
 package com.loopers.application.like;
 
-public record LikeCancelledEvent(Long productId) {
+public record LikeCancelledEvent(Long userId, Long productId) {
 }
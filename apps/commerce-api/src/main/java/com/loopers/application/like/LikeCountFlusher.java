@@ -0,0 +1,89 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.product.HotProductRegistry;
+import com.loopers.domain.product.LikeCountBatch;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductLikeOrderRepository;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 버퍼에 모인 좋아요 수 증감을 MySQL 과 좋아요 순 인덱스에 반영한다.
+ * 반영 중 노드가 내려가 남은 배치는 일정 시간이 지나면 다른 노드가 가져가 반영한다.
+ * 배치를 반영한 뒤 완료 처리 전에 내려가면 같은 배치가 두 번 반영될 수 있으며, 배치가 완료된 뒤 {@link LikeCountReconciler} 가 바로잡는다.
+ * 한 배치의 증감이 임계치를 넘은 상품은 인기 상품으로 표시한다. 표시가 남아 있는 동안 그 상품의 좋아요는
+ * {@link LikeEventListener} 가 버퍼를 거치지 않고 슬롯 행에 바로 쓰므로, 이 반영기는 표시 전에 쌓인 증감만 products 행에 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountFlusher {
+
+    private static final Duration STALE_BATCH_AFTER = Duration.ofMinutes(1);
+    // 반영 주기(1초)마다 한 배치를 떼어내므로, 배치당 증감은 곧 초당 좋아요 수다.
+    private static final long HOT_DELTA_PER_BATCH = 50;
+
+    private final ProductService productService;
+    private final ProductLikeCountBuffer productLikeCountBuffer;
+    private final ProductLikeOrderRepository productLikeOrderRepository;
+    private final HotProductRegistry hotProductRegistry;
+
+    public int flush() {
+        int applied = 0;
+        for (LikeCountBatch batch : productLikeCountBuffer.claimStaleBatches(STALE_BATCH_AFTER)) {
+            applied += apply(batch);
+        }
+        LikeCountBatch batch = productLikeCountBuffer.drain();
+        if (batch != null) {
+            applied += apply(batch);
+        }
+        return applied;
+    }
+
+    private int apply(LikeCountBatch batch) {
+        Map<Long, Long> deltas = new HashMap<>();
+        batch.deltas().forEach((productId, delta) -> {
+            if (delta != 0) {
+                deltas.put(productId, delta);
+            }
+        });
+        detectHotProducts(deltas);
+
+        for (Product product : productService.applyLikeCountDeltas(deltas)) {
+            updateLikeOrder(product, deltas.get(product.getId()));
+        }
+        productLikeCountBuffer.complete(batch.batchId());
+        return deltas.size();
+    }
+
+    // 표시에 실패해도 배치 반영은 계속한다. 다음 배치에서 다시 감지된다.
+    private void detectHotProducts(Map<Long, Long> deltas) {
+        deltas.forEach((productId, delta) -> {
+            if (Math.abs(delta) < HOT_DELTA_PER_BATCH) {
+                return;
+            }
+            try {
+                hotProductRegistry.markHot(productId);
+                log.info("인기 상품 감지, 좋아요 수 슬롯 반영으로 전환: productId={}, delta={}", productId, delta);
+            } catch (Exception e) {
+                log.warn("인기 상품 표시 실패: productId={}, error={}", productId, e.getMessage());
+            }
+        });
+    }
+
+    // 좋아요 순 인덱스 반영 실패는 MySQL 반영을 되돌리지 않는다. 어긋난 점수는 재구축 잡이 바로잡는다.
+    private void updateLikeOrder(Product product, long delta) {
+        try {
+            productLikeOrderRepository.increase(product.getBrandId(), product.getId(), delta);
+        } catch (Exception e) {
+            log.warn("좋아요 순 인덱스 반영 실패: productId={}, error={}", product.getId(), e.getMessage());
+        }
+    }
+}
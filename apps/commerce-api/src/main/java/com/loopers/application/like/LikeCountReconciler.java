@@ -0,0 +1,64 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.ProductLikeService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductLikeCountService;
+import com.loopers.domain.product.ProductLikeOrderRepository;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Product.likeCount 와 product_likes 실제 건수를 비교해 어긋난 상품을 보정한다.
+ * 상품을 id 순으로 청크 단위로 읽고, 청크마다 GROUP BY 한 번으로 실제 건수를 구한다.
+ * 아직 반영되지 않은 증감(떼어내 반영 중이거나 회수를 기다리는 배치 포함)이나 합쳐지지 않은 슬롯 행이 있는 상품은
+ * 어긋난 것이 정상이므로 건너뛴다. (보정 후 증감이 더해지면 오히려 어긋난다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountReconciler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ProductService productService;
+    private final ProductLikeService productLikeService;
+    private final ProductLikeOrderRepository productLikeOrderRepository;
+    private final ProductLikeCountBuffer productLikeCountBuffer;
+    private final ProductLikeCountService productLikeCountService;
+
+    public int reconcile() {
+        int corrected = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Product> products = productService.getProductsAfterId(lastId, CHUNK_SIZE);
+            if (products.isEmpty()) {
+                break;
+            }
+            List<Long> productIds = products.stream().map(Product::getId).toList();
+            Map<Long, Long> actualCounts = productLikeService.getLikeCounts(productIds);
+            Map<Long, Long> unfoldedCounts = productLikeCountService.getUnfoldedCounts(productIds);
+            Set<Long> unappliedIds = productLikeCountBuffer.findUnappliedProductIds(productIds);
+
+            for (Product product : products) {
+                long actual = actualCounts.getOrDefault(product.getId(), 0L);
+                if (product.getLikeCount() != actual
+                    && !unfoldedCounts.containsKey(product.getId())
+                    && !unappliedIds.contains(product.getId())
+                    && productService.correctLikeCount(product.getId(), product.getLikeCount(), actual)) {
+                    log.warn("좋아요 수 보정: productId={}, stored={}, actual={}", product.getId(), product.getLikeCount(), actual);
+                    productLikeOrderRepository.put(product.getBrandId(), product.getId(), actual);
+                    corrected++;
+                }
+            }
+            lastId = productIds.get(productIds.size() - 1);
+        }
+        return corrected;
+    }
+}
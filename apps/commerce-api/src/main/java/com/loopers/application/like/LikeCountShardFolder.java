@@ -0,0 +1,52 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountService;
+import com.loopers.domain.product.ProductLikeOrderRepository;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 슬롯 행에 나눠 쓴 좋아요 수를 상품마다 한 번의 UPDATE 로 Product.likeCount 에 합친다.
+ * 상품별로 트랜잭션을 나눠, 한 상품의 합산이 실패해도 나머지는 진행한다.
+ * 슬롯 행에 쓴 좋아요는 버퍼를 거치지 않으므로, 좋아요 순 인덱스도 합친 만큼 여기서 올린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountShardFolder {
+
+    private final ProductService productService;
+    private final ProductLikeCountService productLikeCountService;
+    private final ProductLikeOrderRepository productLikeOrderRepository;
+
+    public int fold() {
+        int folded = 0;
+        for (Long productId : productLikeCountService.getShardedProductIds()) {
+            long sum;
+            try {
+                sum = productLikeCountService.fold(productId);
+                folded++;
+            } catch (Exception e) {
+                log.warn("좋아요 수 슬롯 합산 실패: productId={}, error={}", productId, e.getMessage());
+                continue;
+            }
+            if (sum != 0) {
+                updateLikeOrder(productId, sum);
+            }
+        }
+        return folded;
+    }
+
+    // 좋아요 순 인덱스 반영 실패는 합산을 되돌리지 않는다. 어긋난 점수는 재구축 잡이 바로잡는다.
+    private void updateLikeOrder(Long productId, long delta) {
+        try {
+            Product product = productService.getProduct(productId);
+            productLikeOrderRepository.increase(product.getBrandId(), productId, delta);
+        } catch (Exception e) {
+            log.warn("좋아요 순 인덱스 반영 실패: productId={}, error={}", productId, e.getMessage());
+        }
+    }
+}
@@ -1,4 +1,4 @@
 package com.loopers.application.like;
 
-public record LikeCreatedEvent(Long productId) {
+public record LikeCreatedEvent(Long userId, Long productId) {
 }
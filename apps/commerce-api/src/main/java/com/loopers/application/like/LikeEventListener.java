@@ -1,28 +1,90 @@
 package com.loopers.application.like;
 
+import com.loopers.domain.like.LikedProductIndex;
+import com.loopers.domain.product.HotProductRegistry;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductLikeCountService;
 import com.loopers.domain.product.ProductService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
+
+/**
+ * 좋아요 수 증감을 버퍼에 쌓기만 하고, MySQL 반영은 {@link LikeCountFlusher} 가 주기적으로 묶어서 한다.
+ * 좋아요마다 상품 행 잠금과 별도 커넥션을 잡지 않으므로, 인기 상품에 좋아요가 몰려도 커넥션 풀이 고갈되지 않는다.
+ * 단, {@link LikeCountFlusher} 가 인기 상품으로 표시한 상품은 버퍼를 거치지 않고 좋아요마다 슬롯 행에 바로 쓴다.
+ * 커밋된 좋아요/취소는 사용자별 좋아요 상품 집합에도 반영한다.
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class LikeEventListener {
 
     private final ProductService productService;
+    private final ProductLikeCountService productLikeCountService;
+    private final HotProductRegistry hotProductRegistry;
+    private final ProductLikeCountBuffer productLikeCountBuffer;
+    private final LikedProductIndex likedProductIndex;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void onLikeCreated(LikeCreatedEvent event) {
-        productService.increaseLikeCount(event.productId());
+        apply(event.productId(), 1);
+        updateLikedIndex(event.userId(), event.productId(), true);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void onLikeCancelled(LikeCancelledEvent event) {
-        productService.decreaseLikeCount(event.productId());
+        apply(event.productId(), -1);
+        updateLikedIndex(event.userId(), event.productId(), false);
+    }
+
+    private void apply(Long productId, long delta) {
+        if (!addToShardIfHot(productId, delta)) {
+            buffer(productId, delta);
+        }
+    }
+
+    // 버퍼는 반영기 하나가 배치 단위로 비우므로, 인기 상품의 좋아요가 쌓여도 상품 행은 배치마다 한 번만 갱신된다.
+    // 그래서 슬롯 행은 반영기가 아니라 좋아요마다 쓸 때 의미가 있고, 여러 노드의 동시 좋아요가 서로 다른 슬롯 행으로 흩어진다.
+    // 표시를 확인하지 못하거나 슬롯에 쓰지 못하면 버퍼로 보낸다.
+    private boolean addToShardIfHot(Long productId, long delta) {
+        try {
+            if (hotProductRegistry.findHot(List.of(productId)).isEmpty()) {
+                return false;
+            }
+            productLikeCountService.addToShard(productId, delta);
+            return true;
+        } catch (Exception e) {
+            log.warn("좋아요 수 슬롯 반영 실패, 버퍼로 전환: productId={}, error={}", productId, e.getMessage());
+            return false;
+        }
+    }
+
+    // 버퍼에 쌓지 못하면 기존처럼 바로 반영한다. (좋아요 순 인덱스는 정기 재구축에서 맞춰진다)
+    private void buffer(Long productId, long delta) {
+        try {
+            productLikeCountBuffer.add(productId, delta);
+        } catch (Exception e) {
+            log.warn("좋아요 수 버퍼 적재 실패, 바로 반영: productId={}, error={}", productId, e.getMessage());
+            productService.applyLikeCountDeltaNow(productId, delta);
+        }
+    }
+
+    // 반영하지 못하면 집합을 지워, 다음 조회가 DB 에서 다시 채우게 한다.
+    private void updateLikedIndex(Long userId, Long productId, boolean liked) {
+        try {
+            if (liked) {
+                likedProductIndex.add(userId, productId);
+            } else {
+                likedProductIndex.remove(userId, productId);
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 상품 집합 반영 실패, 집합 삭제: userId={}, productId={}, error={}", userId, productId, e.getMessage());
+            likedProductIndex.evict(userId);
+        }
     }
 }
@@ -0,0 +1,18 @@
+package com.loopers.application.like;
+
+import com.loopers.application.product.ProductInfo;
+
+import java.util.List;
+
+/**
+ * 좋아요한 상품 목록 한 페이지. nextCursor 는 이 페이지에서 마지막으로 읽은 좋아요 ID 이며, null 이면 마지막 페이지다.
+ * 삭제된 상품은 빠지므로 products 가 요청 크기보다 적어도 다음 페이지가 있을 수 있다.
+ */
+public record LikedProductPageInfo(
+    List<ProductInfo> products,
+    Long nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
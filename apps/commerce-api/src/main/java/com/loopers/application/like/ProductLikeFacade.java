@@ -7,58 +7,86 @@ import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.like.ProductLike;
 import com.loopers.domain.like.ProductLikeService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductLikeCountService;
 import com.loopers.domain.product.ProductService;
-import com.loopers.support.error.CoreException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
 public class ProductLikeFacade {
 
+    private static final int MAX_LIKED_PAGE_SIZE = 100;
+
     private final ProductService productService;
     private final ProductLikeService productLikeService;
     private final BrandService brandService;
+    private final ProductLikeCountBuffer productLikeCountBuffer;
+    private final ProductLikeCountService productLikeCountService;
     private final ApplicationEventPublisher eventPublisher;
 
+    // 트랜잭션 안에서 이벤트를 발행해야 커밋 시점에 좋아요 수 반영(AFTER_COMMIT)과 Outbox 저장(BEFORE_COMMIT)이 실행된다.
+    // 상태가 실제로 바뀐 경우에만 발행해, 중복 요청으로 Product.likeCount 가 어긋나지 않게 한다.
+    @Transactional
     public void like(Long userId, Long productId) {
         productService.getProduct(productId);
-        productLikeService.like(userId, productId);
-        eventPublisher.publishEvent(new LikeCreatedEvent(productId));
+        boolean liked = productLikeService.like(userId, productId);
+        if (liked) {
+            eventPublisher.publishEvent(new LikeCreatedEvent(userId, productId));
+        }
         eventPublisher.publishEvent(new UserActionEvent(userId, "LIKE_PRODUCT", "PRODUCT", productId));
         // 좋아요 수는 변경 빈도가 높아 캐시 무효화 대신 TTL 만료에 맡김 (약간의 stale 허용)
     }
 
+    @Transactional
     public void unlike(Long userId, Long productId) {
-        productLikeService.unlike(userId, productId);
-        eventPublisher.publishEvent(new LikeCancelledEvent(productId));
+        boolean unliked = productLikeService.unlike(userId, productId);
+        if (unliked) {
+            eventPublisher.publishEvent(new LikeCancelledEvent(userId, productId));
+        }
         // 좋아요 수는 변경 빈도가 높아 캐시 무효화 대신 TTL 만료에 맡김 (약간의 stale 허용)
     }
 
+    // 좋아요 수는 주기적으로 반영되므로, 아직 반영되지 않은 증감과 슬롯 행 합계를 더해 방금 누른 좋아요가 바로 보이게 한다.
     public ProductLikeInfo getLikeInfo(Long userId, Long productId) {
-        productService.getProduct(productId);
+        Product product = productService.getProduct(productId);
         boolean liked = productLikeService.isLiked(userId, productId);
-        long likeCount = productLikeService.getLikeCount(productId);
+        long unfolded = productLikeCountService.getUnfoldedCounts(List.of(productId)).getOrDefault(productId, 0L);
+        long likeCount = Math.max(product.getLikeCount() + unfolded + productLikeCountBuffer.getPending(productId), 0L);
         return ProductLikeInfo.of(productId, likeCount, liked);
     }
 
-    public List<ProductInfo> getLikedProducts(Long userId) {
-        List<ProductLike> likes = productLikeService.getLikedProducts(userId);
-        return likes.stream()
-            .map(like -> {
-                try {
-                    Product product = productService.getProduct(like.getProductId());
-                    Brand brand = brandService.getBrand(product.getBrandId());
-                    return ProductInfo.of(product, brand, product.getLikeCount(), true);
-                } catch (CoreException e) {
-                    return null;
-                }
-            })
-            .filter(Objects::nonNull)
-            .toList();
+    // 좋아요 한 페이지를 읽고, 상품과 브랜드는 각각 한 번의 IN 조회로 채운다. 삭제된 상품은 조회 단계에서 빠진다.
+    public LikedProductPageInfo getLikedProducts(Long userId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_LIKED_PAGE_SIZE);
+        List<ProductLike> fetched = productLikeService.getLikesPage(userId, cursor, pageSize + 1);
+        boolean hasNext = fetched.size() > pageSize;
+        List<ProductLike> likes = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        List<Long> productIds = likes.stream().map(ProductLike::getProductId).toList();
+        Map<Long, Product> productMap = productService.getActiveProductsByIds(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Long> brandIds = productMap.values().stream().map(Product::getBrandId).distinct().toList();
+        Map<Long, Brand> brandMap = brandService.getBrandsByIds(brandIds);
+
+        List<ProductInfo> result = new ArrayList<>();
+        for (ProductLike like : likes) {
+            Product product = productMap.get(like.getProductId());
+            if (product == null || !brandMap.containsKey(product.getBrandId())) {
+                continue;
+            }
+            result.add(ProductInfo.of(product, brandMap.get(product.getBrandId()), product.getLikeCount(), true));
+        }
+        Long nextCursor = hasNext ? likes.get(likes.size() - 1).getId() : null;
+        return new LikedProductPageInfo(result, nextCursor);
     }
 }
@@ -0,0 +1,161 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSort;
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 상세/목록 캐시를 미리 채운다.
+ * - 기동 시: ApplicationRunner 로 실행되어, 끝나거나 timeout 될 때까지 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌지 않는다.
+ * - 목록 무효화 후: 세대가 바뀐 브랜드를 모아 두었다가 {@link #warmUpInvalidatedLists()} 호출 시 앞쪽 페이지를 다시 채운다.
+ * 캐시는 프록시를 거쳐야 적용되므로 {@link ProductDetailReader}, {@link ProductListBlockReader} 빈을 통해 조회한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CatalogCacheWarmer implements ApplicationRunner {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final CatalogWarmUpProperties properties;
+    private final ProductService productService;
+    private final RankingService rankingService;
+    private final ProductDetailReader productDetailReader;
+    private final ProductListBlockReader productListBlockReader;
+
+    private final Set<Long> invalidatedBrandIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean globalListInvalidated = new AtomicBoolean();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Long productId : topProductIds()) {
+            tasks.add(() -> {
+                productDetailReader.getProductDetail(productId);
+                return null;
+            });
+        }
+        List<Long> brandIds = new ArrayList<>();
+        brandIds.add(null);
+        brandIds.addAll(productService.getPopularBrandIds(properties.popularBrands()));
+        tasks.addAll(listTasks(brandIds));
+        execute("startup", tasks);
+    }
+
+    @EventListener
+    public void onProductListInvalidated(ProductListInvalidatedEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        globalListInvalidated.set(true);
+        if (event.brandId() != null) {
+            invalidatedBrandIds.add(event.brandId());
+        }
+    }
+
+    // 쓰기가 몰려도 주기당 한 번만 다시 채우도록, 그동안 쌓인 브랜드를 모아서 처리한다.
+    public void warmUpInvalidatedLists() {
+        List<Long> brandIds = new ArrayList<>();
+        if (globalListInvalidated.getAndSet(false)) {
+            brandIds.add(null);
+        }
+        for (Long brandId : invalidatedBrandIds) {
+            invalidatedBrandIds.remove(brandId);
+            brandIds.add(brandId);
+        }
+        if (!brandIds.isEmpty()) {
+            execute("invalidation", listTasks(brandIds));
+        }
+    }
+
+    private Set<Long> topProductIds() {
+        Set<Long> productIds = new LinkedHashSet<>(productService.getTopLikedProductIds(properties.topProducts()));
+        try {
+            String today = LocalDate.now().format(DATE_FORMATTER);
+            productIds.addAll(rankingService.getTopProductIds(today, 0, properties.topProducts()));
+        } catch (Exception e) {
+            log.warn("랭킹 상위 상품 조회 실패, 좋아요 순 상품만 워밍업합니다: error={}", e.getMessage());
+        }
+        return productIds;
+    }
+
+    private List<Callable<Void>> listTasks(List<Long> brandIds) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (ProductSort sort : ProductSort.values()) {
+            for (Long brandId : brandIds) {
+                for (int block = 0; block < blockCount(); block++) {
+                    int blockIndex = block;
+                    tasks.add(() -> {
+                        productListBlockReader.getBlock(brandId, sort, blockIndex);
+                        return null;
+                    });
+                }
+            }
+        }
+        return tasks;
+    }
+
+    // 앞쪽 pages × pageSize 건을 덮는 블록 수
+    private int blockCount() {
+        int items = properties.pages() * properties.pageSize();
+        return Math.max(1, (items + ProductListBlockReader.BLOCK_SIZE - 1) / ProductListBlockReader.BLOCK_SIZE);
+    }
+
+    private void execute(String trigger, List<Callable<Void>> tasks) {
+        long start = System.currentTimeMillis();
+        AtomicInteger threadSequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.concurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "catalog-warm-up-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        int succeeded = 0;
+        int failed = 0;
+        int cancelled = 0;
+        try {
+            List<Future<Void>> futures = executor.invokeAll(tasks, properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+            for (Future<Void> future : futures) {
+                if (future.isCancelled()) {
+                    cancelled++;
+                    continue;
+                }
+                try {
+                    future.get();
+                    succeeded++;
+                } catch (Exception e) {
+                    failed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("카탈로그 캐시 워밍업 완료: trigger={}, tasks={}, succeeded={}, failed={}, cancelled={}, elapsedMs={}",
+            trigger, tasks.size(), succeeded, failed, cancelled, System.currentTimeMillis() - start);
+    }
+}
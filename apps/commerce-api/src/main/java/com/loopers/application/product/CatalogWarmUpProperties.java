@@ -0,0 +1,25 @@
+package com.loopers.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled       기동 시 워밍업 실행 여부
+ * @param topProducts   상세 캐시에 미리 올릴 상위 상품 수 (좋아요 순 + 오늘 랭킹 순)
+ * @param popularBrands 목록 캐시에 미리 올릴 인기 브랜드 수 (브랜드 전체 좋아요 합 기준)
+ * @param pages         정렬 × 브랜드 조합마다 미리 올릴 앞쪽 페이지 수
+ * @param pageSize      워밍업 대상 목록 페이지 크기 (클라이언트 기본값과 맞춘다)
+ * @param concurrency   워밍업 동시 실행 수 (DB 커넥션 풀을 점유하지 않도록 작게 둔다)
+ * @param timeout       워밍업 최대 소요 시간. 초과하면 남은 작업을 취소하고 트래픽을 받는다.
+ */
+@ConfigurationProperties(value = "catalog.warm-up")
+public record CatalogWarmUpProperties(
+        boolean enabled,
+        int topProducts,
+        int popularBrands,
+        int pages,
+        int pageSize,
+        int concurrency,
+        Duration timeout
+) { }
@@ -0,0 +1,35 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductListGenerationRepository;
+import com.loopers.infrastructure.cache.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 상품이 한꺼번에 바뀌었을 때(브랜드 삭제 등) 상세 캐시와 목록 캐시를 함께 무효화한다.
+ * 단건 쓰기는 {@link ProductFacade} 가 @CacheEvict 와 세대 증가로 처리한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final ProductListGenerationRepository productListGenerationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void invalidate(Long brandId, Collection<Long> productIds) {
+        Cache detailCache = cacheManager.getCache(CacheConfig.PRODUCT_DETAIL);
+        if (detailCache != null) {
+            for (Long productId : productIds) {
+                detailCache.evict(productId);
+            }
+        }
+        productListGenerationRepository.increase(brandId);
+        eventPublisher.publishEvent(new ProductListInvalidatedEvent(brandId));
+    }
+}
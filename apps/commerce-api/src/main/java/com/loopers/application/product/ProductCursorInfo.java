@@ -0,0 +1,15 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 조회 결과. nextCursor 가 null 이면 마지막 페이지다.
+ */
+public record ProductCursorInfo(
+    List<ProductInfo> products,
+    String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
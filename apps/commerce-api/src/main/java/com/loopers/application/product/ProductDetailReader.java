@@ -0,0 +1,125 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.infrastructure.cache.CacheConfig;
+import com.loopers.support.cache.MultiGetCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자와 무관한 상품 상세 본문(상품 + 브랜드 + 좋아요 수 + 랭킹)을 조회한다.
+ * 좋아요 수는 product_likes COUNT 대신 비정규화된 Product.likeCount 를 사용한다. ({@link com.loopers.application.like.LikeCountReconciler} 가 보정)
+ * 인기 상품은 아직 합쳐지지 않은 슬롯 행의 합계를 더한다.
+ * 모든 사용자가 같은 캐시 엔트리를 공유하므로 liked 는 항상 false 이며, 사용자별 값은 {@link ProductFacade} 에서 덧씌운다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductDetailReader {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ProductService productService;
+    private final ProductLikeCountService productLikeCountService;
+    private final BrandService brandService;
+    private final RankingService rankingService;
+    private final CacheManager cacheManager;
+
+    // sync = true: 만료 직후 몰린 요청 중 한 건만 로더를 실행하고 나머지는 그 결과를 공유한다.
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId", sync = true)
+    public ProductInfo getProductDetail(Long productId) {
+        Product product = productService.getProduct(productId);
+        Brand brand = brandService.getBrand(product.getBrandId());
+        String today = LocalDate.now().format(DATE_FORMATTER);
+        Long rank = rankingService.getRank(today, productId);
+        long unfolded = productLikeCountService.getUnfoldedCounts(List.of(productId)).getOrDefault(productId, 0L);
+        return ProductInfo.of(product, brand, product.getLikeCount() + unfolded, false, rank);
+    }
+
+    /**
+     * 여러 상품의 상세 본문을 요청 순서대로 반환한다. 존재하지 않는 상품은 결과에서 빠진다.
+     * 캐시는 한 번의 다건 조회로 확인하고, 미스난 상품만 상품/브랜드를 각각 한 번의 IN 쿼리로 읽어 캐시에 채운다.
+     */
+    public List<ProductInfo> getProductDetails(List<Long> productIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCT_DETAIL);
+        Map<Long, ProductInfo> details = new HashMap<>(getCached(cache, productIds));
+
+        List<Long> missedIds = productIds.stream().filter(id -> !details.containsKey(id)).toList();
+        if (!missedIds.isEmpty()) {
+            details.putAll(loadAndCache(cache, missedIds));
+        }
+
+        List<ProductInfo> result = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductInfo detail = details.get(productId);
+            if (detail != null) {
+                result.add(detail);
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, ProductInfo> getCached(Cache cache, List<Long> productIds) {
+        Map<Long, ProductInfo> cached = new HashMap<>();
+        if (cache == null) {
+            return cached;
+        }
+        if (cache instanceof MultiGetCache multiGetCache) {
+            Map<String, Object> found = multiGetCache.getAll(productIds);
+            for (Long productId : productIds) {
+                if (found.get(String.valueOf(productId)) instanceof ProductInfo info) {
+                    cached.put(productId, info);
+                }
+            }
+            return cached;
+        }
+        for (Long productId : productIds) {
+            ProductInfo info = cache.get(productId, ProductInfo.class);
+            if (info != null) {
+                cached.put(productId, info);
+            }
+        }
+        return cached;
+    }
+
+    private Map<Long, ProductInfo> loadAndCache(Cache cache, List<Long> productIds) {
+        // DB 를 읽는 동안 evict 가 끼어들면 읽은 값이 이미 낡았으므로, 읽기 전 세대를 받아 두고 채울 때 비교한다.
+        long epoch = cache instanceof MultiGetCache multiGetCache ? multiGetCache.invalidationEpoch() : 0L;
+        List<Product> products = productService.getProductsByIds(productIds);
+        List<Long> brandIds = products.stream().map(Product::getBrandId).distinct().toList();
+        Map<Long, Brand> brandMap = brandService.getBrandsByIds(brandIds);
+        Map<Long, Long> unfoldedCounts = productLikeCountService.getUnfoldedCounts(productIds);
+        // 순위는 상품마다 ZREVRANK 를 보내지 않고 파이프라인 한 번으로 읽는다.
+        Map<Long, Long> ranks = rankingService.getRanks(LocalDate.now().format(DATE_FORMATTER), productIds);
+
+        Map<Long, ProductInfo> loaded = new HashMap<>();
+        for (Product product : products) {
+            Brand brand = brandMap.get(product.getBrandId());
+            if (brand == null) {
+                continue;
+            }
+            long likeCount = product.getLikeCount() + unfoldedCounts.getOrDefault(product.getId(), 0L);
+            loaded.put(product.getId(), ProductInfo.of(product, brand, likeCount, false, ranks.get(product.getId())));
+        }
+        if (cache instanceof MultiGetCache multiGetCache) {
+            multiGetCache.putAll(loaded, epoch);
+        } else if (cache != null) {
+            loaded.forEach(cache::put);
+        }
+        return loaded;
+    }
+}
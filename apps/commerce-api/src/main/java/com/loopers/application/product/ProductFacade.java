@@ -4,51 +4,181 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.like.ProductLikeService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.PriceBucket;
+import com.loopers.domain.product.ProductChange;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductFacetRepository;
+import com.loopers.domain.product.ProductFacets;
+import com.loopers.domain.product.ProductLikeOrderRepository;
+import com.loopers.domain.product.ProductListGenerationRepository;
+import com.loopers.domain.product.ProductPriceRange;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.ProductSort;
 import com.loopers.domain.ranking.RankingService;
 import com.loopers.infrastructure.cache.CacheConfig;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class ProductFacade {
 
+    private static final int MAX_PAGE_SIZE = ProductListBlockReader.BLOCK_SIZE;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 50;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final ProductService productService;
     private final BrandService brandService;
     private final ProductLikeService productLikeService;
     private final RankingService rankingService;
+    private final ProductDetailReader productDetailReader;
+    private final ProductListBlockReader productListBlockReader;
+    private final ProductListGenerationRepository productListGenerationRepository;
+    private final ProductLikeOrderRepository productLikeOrderRepository;
+    private final ProductFacetRepository productFacetRepository;
+    private final ProductSearchIndexer productSearchIndexer;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Cacheable(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId")
+    // 공유 본문은 캐시에서, 사용자별 liked 는 한 번의 일괄 조회로 덧씌운다. 사용자 수만큼 캐시 키가 늘어나지 않는다.
     public ProductInfo getProductDetail(Long productId, Long userId) {
-        Product product = productService.getProduct(productId);
-        Brand brand = brandService.getBrand(product.getBrandId());
-        boolean liked = userId != null && productLikeService.isLiked(userId, productId);
-        long likeCount = productLikeService.getLikeCount(productId);
-        String today = LocalDate.now().format(DATE_FORMATTER);
-        Long rank = rankingService.getRank(today, productId);
-        return ProductInfo.of(product, brand, likeCount, liked, rank);
+        ProductInfo detail = productDetailReader.getProductDetail(productId);
+        if (userId == null) {
+            return detail;
+        }
+        Set<Long> likedProductIds = productLikeService.getLikedProductIds(userId, List.of(productId));
+        return detail.withLiked(likedProductIds.contains(productId));
+    }
+
+    // 상세 본문은 다건 캐시 조회 후 미스만 로드하고, liked 는 한 번의 IN 조회로 덧씌운다.
+    public List<ProductInfo> getProductDetails(List<Long> productIds, Long userId) {
+        List<Long> distinctIds = productIds == null ? List.of() : productIds.stream().distinct().toList();
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "상품 ID는 1개 이상 " + MAX_BATCH_SIZE + "개 이하로 요청해야 합니다.");
+        }
+        return withLiked(productDetailReader.getProductDetails(distinctIds), userId);
+    }
+
+    // 목록 블록은 사용자와 무관하게 캐시되고, liked 는 사용자별 좋아요 집합에서 한 번에 확인해 덧씌운다.
+    public List<ProductInfo> getProducts(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size, Long userId) {
+        return withLiked(getProducts(brandId, priceRange, sort, page, size), userId);
+    }
+
+    private List<ProductInfo> withLiked(List<ProductInfo> infos, Long userId) {
+        if (userId == null || infos.isEmpty()) {
+            return infos;
+        }
+        Set<Long> likedProductIds = productLikeService.getLikedProductIds(userId, infos.stream().map(ProductInfo::productId).toList());
+        return infos.stream()
+            .map(info -> info.withLiked(likedProductIds.contains(info.productId())))
+            .toList();
     }
 
-    @Cacheable(
-        cacheNames = CacheConfig.PRODUCT_LIST,
-        key = "(#brandId ?: 'all') + '_' + #sort + '_' + #page + '_' + #size"
-    )
     public List<ProductInfo> getProducts(Long brandId, ProductSort sort, int page, int size) {
-        List<Product> products = productService.getProducts(brandId, sort, page, size);
+        return getProducts(brandId, ProductPriceRange.ALL, sort, page, size);
+    }
+
+    // 순위는 자주 바뀌어 블록 캐시에 넣지 않고, 읽은 페이지에 파이프라인 한 번으로 덧씌운다.
+    public List<ProductInfo> getProducts(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size) {
+        return withRanks(readProducts(brandId, priceRange, sort, page, size));
+    }
+
+    private List<ProductInfo> withRanks(List<ProductInfo> infos) {
+        if (infos.isEmpty()) {
+            return infos;
+        }
+        Map<Long, Long> ranks;
+        try {
+            String today = LocalDate.now().format(DATE_FORMATTER);
+            ranks = rankingService.getRanks(today, infos.stream().map(ProductInfo::productId).toList());
+        } catch (Exception e) {
+            log.warn("목록 순위 조회 실패, 순위 없이 응답: error={}", e.getMessage());
+            return infos;
+        }
+        return infos.stream()
+            .map(info -> info.withRank(ranks.get(info.productId())))
+            .toList();
+    }
+
+    // 고정 크기 블록을 캐시에서 가져와 요청한 구간만 잘라낸다. size 가 블록 크기 이하이므로 최대 두 블록만 읽는다.
+    // 가격 조건은 조합이 많아 블록 캐시를 쓰지 않고, 가격 인덱스 구간 조회로 바로 읽는다.
+    private List<ProductInfo> readProducts(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        if (!priceRange.isUnbounded()) {
+            return productService.getProductSummaries(brandId, priceRange, sort, Math.max(page, 0), pageSize).stream()
+                .map(ProductInfo::from)
+                .toList();
+        }
+        long from = (long) Math.max(page, 0) * pageSize;
+        long to = from + pageSize;
+        int firstBlock = Math.toIntExact(from / ProductListBlockReader.BLOCK_SIZE);
+        int lastBlock = Math.toIntExact((to - 1) / ProductListBlockReader.BLOCK_SIZE);
+
+        List<ProductInfo> result = new ArrayList<>();
+        for (int blockIndex = firstBlock; blockIndex <= lastBlock; blockIndex++) {
+            List<ProductInfo> block = productListBlockReader.getBlock(brandId, sort, blockIndex);
+            long blockStart = (long) blockIndex * ProductListBlockReader.BLOCK_SIZE;
+            int sliceFrom = (int) Math.max(from - blockStart, 0);
+            int sliceTo = (int) Math.min(to - blockStart, block.size());
+            if (sliceFrom < sliceTo) {
+                result.addAll(block.subList(sliceFrom, sliceTo));
+            }
+            if (block.size() < ProductListBlockReader.BLOCK_SIZE) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 목록 전체 건수는 COUNT(*) 대신 패싯 카운터에서 읽는다. 가격 조건은 구간 경계와 맞지 않으므로 건수를 제공하지 않는다.
+    public Long countProducts(Long brandId, ProductPriceRange priceRange) {
+        if (!priceRange.isUnbounded()) {
+            return null;
+        }
+        return productFacetRepository.countProducts(brandId);
+    }
+
+    // 미리 집계한 카운터만 읽는다. 브랜드명은 브랜드 스냅샷에서 채우고, 삭제된 브랜드는 제외한다.
+    public ProductFacetInfo getProductFacets(Long brandId) {
+        ProductFacets facets = productFacetRepository.findFacets(brandId);
+        Map<Long, Brand> brandMap = brandService.getBrandsByIds(List.copyOf(facets.brandCounts().keySet()));
+
+        List<ProductFacetInfo.BrandFacet> brands = facets.brandCounts().entrySet().stream()
+            .filter(entry -> brandMap.containsKey(entry.getKey()))
+            .map(entry -> new ProductFacetInfo.BrandFacet(entry.getKey(), brandMap.get(entry.getKey()).getName(), entry.getValue()))
+            .sorted(Comparator.comparingLong(ProductFacetInfo.BrandFacet::count).reversed()
+                .thenComparing(ProductFacetInfo.BrandFacet::brandId))
+            .toList();
+        List<ProductFacetInfo.PriceFacet> priceRanges = new ArrayList<>();
+        for (PriceBucket bucket : PriceBucket.values()) {
+            long count = facets.priceBucketCounts().getOrDefault(bucket, 0L);
+            priceRanges.add(new ProductFacetInfo.PriceFacet(bucket.name(), bucket.getMinPrice(), bucket.getMaxPrice(), count));
+        }
+        return new ProductFacetInfo(brands, priceRanges);
+    }
+
+    // 깊은 페이지에서도 OFFSET 스캔 없이 인덱스 seek 로 조회한다. size + 1 건을 읽어 다음 페이지 존재 여부를 판단한다.
+    public ProductCursorInfo getProductsByCursor(Long brandId, ProductSort sort, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        ProductCursor decoded = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(cursor, sort);
+        List<Product> fetched = productService.getProductsByCursor(brandId, sort, decoded, pageSize + 1);
+
+        boolean hasNext = fetched.size() > pageSize;
+        List<Product> products = hasNext ? fetched.subList(0, pageSize) : fetched;
 
         List<Long> brandIds = products.stream().map(Product::getBrandId).distinct().toList();
         Map<Long, Brand> brandMap = brandService.getBrandsByIds(brandIds);
@@ -57,35 +187,52 @@ public class ProductFacade {
         for (Product product : products) {
             result.add(ProductInfo.of(product, brandMap.get(product.getBrandId()), product.getLikeCount(), false));
         }
-        return result;
+        String nextCursor = hasNext ? ProductCursor.of(products.get(products.size() - 1), sort).encode() : null;
+        return new ProductCursorInfo(withRanks(result), nextCursor);
     }
 
-    @Caching(evict = {
-        @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
-    })
     public ProductInfo registerProduct(Long brandId, String name, String description, int price, int stock, String imageUrl) {
         brandService.getBrand(brandId);
         Product product = productService.register(brandId, name, description, price, stock, imageUrl);
+        productLikeOrderRepository.add(product.getBrandId(), product.getId());
+        productFacetRepository.increase(product.getBrandId(), product.getPrice(), 1);
+        productSearchIndexer.onProductChanged(product.getId());
+        invalidateProductLists(product.getBrandId());
         Brand brand = brandService.getBrand(product.getBrandId());
         return ProductInfo.of(product, brand, 0L, false);
     }
 
-    @Caching(evict = {
-        @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId"),
-        @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
-    })
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId")
     public ProductInfo updateProduct(Long productId, String name, String description, int price, int stock, String imageUrl) {
-        Product product = productService.update(productId, name, description, price, stock, imageUrl);
+        ProductChange change = productService.update(productId, name, description, price, stock, imageUrl);
+        Product product = change.product();
+        int previousPrice = change.previousPrice();
+        if (PriceBucket.of(previousPrice) != PriceBucket.of(product.getPrice())) {
+            productFacetRepository.increase(product.getBrandId(), previousPrice, -1);
+            productFacetRepository.increase(product.getBrandId(), product.getPrice(), 1);
+        }
+        productSearchIndexer.onProductChanged(product.getId());
+        invalidateProductLists(product.getBrandId());
         Brand brand = brandService.getBrand(product.getBrandId());
         return ProductInfo.of(product, brand, product.getLikeCount(), false);
     }
 
-    @Caching(evict = {
-        @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId"),
-        @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
-    })
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId")
     public void deleteProduct(Long productId) {
-        productService.delete(productId);
+        ProductChange change = productService.delete(productId);
+        Product product = change.product();
+        productLikeOrderRepository.remove(product.getBrandId(), product.getId());
+        // 삭제는 멱등이라, 이미 삭제된 상품이면 패싯 카운터를 다시 빼지 않는다.
+        if (change.previouslyActive()) {
+            productFacetRepository.increase(product.getBrandId(), product.getPrice(), -1);
+        }
+        productSearchIndexer.onProductChanged(product.getId());
+        invalidateProductLists(product.getBrandId());
     }
 
+    // 세대를 올려 기존 목록 캐시를 버리고, 워밍업 대상으로 알린다.
+    private void invalidateProductLists(Long brandId) {
+        productListGenerationRepository.increase(brandId);
+        eventPublisher.publishEvent(new ProductListInvalidatedEvent(brandId));
+    }
 }
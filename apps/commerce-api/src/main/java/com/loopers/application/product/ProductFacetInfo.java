@@ -0,0 +1,14 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+public record ProductFacetInfo(
+    List<BrandFacet> brands,
+    List<PriceFacet> priceRanges
+) {
+
+    public record BrandFacet(Long brandId, String brandName, long count) {}
+
+    // maxPrice 는 포함하지 않으며, null 이면 상한이 없다.
+    public record PriceFacet(String priceRange, int minPrice, Integer maxPrice, long count) {}
+}
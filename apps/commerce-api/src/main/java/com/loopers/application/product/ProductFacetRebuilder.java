@@ -0,0 +1,27 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductFacetCount;
+import com.loopers.domain.product.ProductFacetRepository;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL 집계 한 번으로 패싯 카운터를 다시 만든다.
+ * 재구축 도중 들어온 증감은 교체 시 덮어써지며, 다음 재구축에서 다시 맞춰진다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductFacetRebuilder {
+
+    private final ProductService productService;
+    private final ProductFacetRepository productFacetRepository;
+
+    public int rebuild() {
+        List<ProductFacetCount> counts = productService.countByBrandAndPriceBucket();
+        productFacetRepository.replaceAll(counts);
+        return counts.size();
+    }
+}
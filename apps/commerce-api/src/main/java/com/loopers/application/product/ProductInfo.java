@@ -2,6 +2,9 @@ package com.loopers.application.product;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductSummary;
+
+import java.time.ZonedDateTime;
 
 public record ProductInfo(
     Long productId,
@@ -14,7 +17,8 @@ public record ProductInfo(
     String brandName,
     long likeCount,
     boolean liked,
-    Long rank
+    Long rank,
+    ZonedDateTime updatedAt
 ) {
     public static ProductInfo of(Product product, Brand brand, long likeCount, boolean liked) {
         return new ProductInfo(
@@ -28,7 +32,8 @@ public record ProductInfo(
             brand.getName(),
             likeCount,
             liked,
-            null
+            null,
+            product.getUpdatedAt()
         );
     }
 
@@ -44,7 +49,39 @@ public record ProductInfo(
             brand.getName(),
             likeCount,
             liked,
-            rank
+            rank,
+            product.getUpdatedAt()
+        );
+    }
+
+    public static ProductInfo from(ProductSummary summary) {
+        return new ProductInfo(
+            summary.productId(),
+            summary.productName(),
+            summary.description(),
+            summary.price(),
+            summary.stock(),
+            summary.imageUrl(),
+            summary.brandId(),
+            summary.brandName(),
+            summary.likeCount(),
+            false,
+            null,
+            summary.updatedAt()
+        );
+    }
+
+    public ProductInfo withRank(Long rank) {
+        return new ProductInfo(
+            productId, productName, description, price, stock, imageUrl,
+            brandId, brandName, likeCount, liked, rank, updatedAt
+        );
+    }
+
+    public ProductInfo withLiked(boolean liked) {
+        return new ProductInfo(
+            productId, productName, description, price, stock, imageUrl,
+            brandId, brandName, likeCount, liked, rank, updatedAt
         );
     }
 }
@@ -0,0 +1,43 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeOrderRepository;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * MySQL 의 Product.likeCount 로 좋아요 순 인덱스를 다시 만든다.
+ * 상품을 id 순 청크로 읽어 임시 인덱스에 적재하고, 끝나면 한 번에 교체한다.
+ * 재구축 도중 들어온 좋아요 증감은 교체 시 덮어써지며, 다음 재구축에서 다시 맞춰진다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductLikeOrderRebuilder {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ProductService productService;
+    private final ProductLikeOrderRepository productLikeOrderRepository;
+
+    public int rebuild() {
+        String rebuildId = UUID.randomUUID().toString();
+        int indexed = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Product> products = productService.getProductsAfterId(lastId, CHUNK_SIZE);
+            if (products.isEmpty()) {
+                break;
+            }
+            List<Product> active = products.stream().filter(p -> p.getDeletedAt() == null).toList();
+            productLikeOrderRepository.stageRebuild(rebuildId, active);
+            indexed += active.size();
+            lastId = products.get(products.size() - 1).getId();
+        }
+        productLikeOrderRepository.publishRebuild(rebuildId);
+        return indexed;
+    }
+}
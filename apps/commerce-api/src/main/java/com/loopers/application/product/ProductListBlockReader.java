@@ -0,0 +1,37 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductPriceRange;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSort;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.infrastructure.cache.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 목록을 (브랜드, 정렬)별 고정 크기 블록 단위로 조회/캐시한다.
+ * 캐시 키에 클라이언트의 page/size 가 들어가지 않으므로, 페이지 크기가 달라도 같은 블록을 공유하고 키 수가 블록 수로 제한된다.
+ * 요청한 page/size 로 잘라내는 것은 {@link ProductFacade#getProducts} 가 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductListBlockReader {
+
+    public static final int BLOCK_SIZE = 100;
+
+    private final ProductService productService;
+
+    // 키 = (brandId|all) + 세대 + sort + blockIndex. 쓰기 시 세대가 올라가면 해당 범위의 블록이 모두 바뀐다.
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_LIST, keyGenerator = CacheConfig.PRODUCT_LIST_KEY_GENERATOR, sync = true)
+    public List<ProductInfo> getBlock(Long brandId, ProductSort sort, int blockIndex) {
+        List<ProductInfo> result = new ArrayList<>();
+        for (ProductSummary summary : productService.getProductSummaries(brandId, ProductPriceRange.ALL, sort, blockIndex, BLOCK_SIZE)) {
+            result.add(ProductInfo.from(summary));
+        }
+        return result;
+    }
+}
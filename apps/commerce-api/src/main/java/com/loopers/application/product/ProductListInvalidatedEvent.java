@@ -0,0 +1,4 @@
+package com.loopers.application.product;
+
+public record ProductListInvalidatedEvent(Long brandId) {
+}
@@ -0,0 +1,38 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductSearchIndex;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 검색/자동완성은 노드 로컬 색인에서 상품 ID 만 찾고, 본문은 상세 캐시에서 한 번에 읽는다. MySQL LIKE 를 사용하지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductSearchFacade {
+
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_SUGGESTION_SIZE = 20;
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductDetailReader productDetailReader;
+
+    public List<ProductInfo> search(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "검색어를 입력해야 합니다.");
+        }
+        List<Long> productIds = productSearchIndex.search(query, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE));
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return productDetailReader.getProductDetails(productIds);
+    }
+
+    public List<String> suggest(String prefix, int size) {
+        return productSearchIndex.suggest(prefix, Math.min(Math.max(size, 1), MAX_SUGGESTION_SIZE));
+    }
+}
@@ -0,0 +1,115 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductChangeBroadcaster;
+import com.loopers.domain.product.ProductSearchIndex;
+import com.loopers.domain.product.ProductService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link ProductSearchIndex} 를 기동 시 전체 상품으로 만들고, 상품이 바뀔 때마다 해당 상품만 다시 색인한다.
+ * 다른 노드에서 바뀐 상품은 {@link ProductChangeBroadcaster} 알림을 받아 DB 에서 다시 읽어 반영한다.
+ * 여러 상품이 함께 바뀌면 청크 단위로 한 번에 읽고, 청크마다 알림도 한 번만 보낸다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductSearchIndexer implements ApplicationRunner {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ProductService productService;
+    private final BrandService brandService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductChangeBroadcaster productChangeBroadcaster;
+
+    @PostConstruct
+    void subscribe() {
+        productChangeBroadcaster.subscribe(this::reindex);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        Long lastId = 0L;
+        while (true) {
+            List<Product> products = productService.getProductsAfterId(lastId, CHUNK_SIZE);
+            if (products.isEmpty()) {
+                break;
+            }
+            List<Long> brandIds = products.stream().map(Product::getBrandId).distinct().toList();
+            Map<Long, Brand> brandMap = brandService.getBrandsByIds(brandIds);
+            for (Product product : products) {
+                index(product, brandMap.get(product.getBrandId()));
+            }
+            lastId = products.get(products.size() - 1).getId();
+        }
+        log.info("상품 검색 색인 완료: documents={}, elapsedMs={}", productSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    // 이 노드의 색인을 갱신하고 다른 노드에 알린다.
+    public void onProductChanged(Long productId) {
+        onProductsChanged(List.of(productId));
+    }
+
+    // 브랜드 삭제처럼 여러 상품이 함께 바뀐 경우
+    public void onProductsChanged(List<Long> productIds) {
+        for (int from = 0; from < productIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + CHUNK_SIZE, productIds.size()));
+            reindex(chunk);
+            productChangeBroadcaster.broadcast(chunk);
+        }
+    }
+
+    // 브랜드명이 바뀌면 브랜드의 활성 상품을 키셋으로 읽어 다시 색인한다.
+    public void onBrandChanged(Long brandId) {
+        Long lastId = 0L;
+        while (true) {
+            List<Long> productIds = productService.getActiveProductIdsByBrandIdAfter(brandId, lastId, CHUNK_SIZE);
+            if (productIds.isEmpty()) {
+                break;
+            }
+            onProductsChanged(productIds);
+            lastId = productIds.get(productIds.size() - 1);
+        }
+    }
+
+    // 활성 상품만 한 번에 읽고, 결과에 없는 상품(삭제/미존재)은 색인에서 뺀다.
+    private void reindex(List<Long> productIds) {
+        List<Product> products = productService.getActiveProductsByIds(productIds);
+        List<Long> brandIds = products.stream().map(Product::getBrandId).distinct().toList();
+        Map<Long, Brand> brandMap = brandIds.isEmpty() ? Map.of() : brandService.getBrandsByIds(brandIds);
+        Set<Long> indexed = new HashSet<>();
+        for (Product product : products) {
+            index(product, brandMap.get(product.getBrandId()));
+            indexed.add(product.getId());
+        }
+        for (Long productId : productIds) {
+            if (!indexed.contains(productId)) {
+                productSearchIndex.remove(productId);
+            }
+        }
+    }
+
+    private void index(Product product, Brand brand) {
+        if (product.getDeletedAt() != null || brand == null || brand.getDeletedAt() != null) {
+            productSearchIndex.remove(product.getId());
+            return;
+        }
+        productSearchIndex.index(
+            product.getId(), product.getName(), product.getDescription(), brand.getName(), product.getLikeCount()
+        );
+    }
+}
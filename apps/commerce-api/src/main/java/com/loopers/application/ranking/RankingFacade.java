@@ -2,39 +2,116 @@ package com.loopers.application.ranking;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.like.ProductLikeService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.ranking.MvProductRankMonthly;
 import com.loopers.domain.ranking.MvProductRankMonthlyRepository;
 import com.loopers.domain.ranking.MvProductRankWeekly;
 import com.loopers.domain.ranking.MvProductRankWeeklyRepository;
+import com.loopers.domain.ranking.RankedProduct;
+import com.loopers.domain.ranking.RankingPageRefreshLock;
 import com.loopers.domain.ranking.RankingService;
+import com.loopers.infrastructure.cache.CacheConfig;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 랭킹 페이지는 모든 사용자가 같으므로, 상품/브랜드까지 채운 결과를 (period, date, page, size) 단위로 캐시한다.
+ * 오늘 날짜의 앞쪽 페이지는 한 노드가 주기적으로 다시 만들어 넣으므로, 요청은 캐시만 읽는다.
+ * 그 외 조합은 미스 시 로드해 짧은 TTL 로 캐시한다.
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class RankingFacade {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final List<String> PERIODS = List.of("daily", "weekly", "monthly");
+    // 클라이언트 기본 페이지 크기와 맞춘다. 다른 크기는 미스 시 로드한다.
+    private static final int REFRESH_PAGE_SIZE = 20;
+    private static final int REFRESH_PAGES = 5;
+    // 갱신 주기(10초)보다 짧게 두어, 다음 주기에는 다른 노드도 잠금을 잡을 수 있게 한다.
+    private static final Duration REFRESH_LEASE = Duration.ofSeconds(8);
 
     private final RankingService rankingService;
     private final ProductService productService;
     private final BrandService brandService;
     private final MvProductRankWeeklyRepository mvProductRankWeeklyRepository;
     private final MvProductRankMonthlyRepository mvProductRankMonthlyRepository;
+    private final ProductLikeService productLikeService;
+    private final CacheManager cacheManager;
+    private final RankingPageRefreshLock rankingPageRefreshLock;
+
+    // 랭킹 본문은 사용자와 무관하게 만들고, liked 는 사용자별 좋아요 집합에서 한 번에 확인해 덧씌운다.
+    public List<RankingInfo> getTopRankings(String date, int page, int size, String period, Long userId) {
+        List<RankingInfo> rankings = getTopRankings(date, page, size, period);
+        if (userId == null || rankings.isEmpty()) {
+            return rankings;
+        }
+        Set<Long> likedProductIds = productLikeService.getLikedProductIds(userId, rankings.stream().map(RankingInfo::productId).toList());
+        return rankings.stream()
+                .map(info -> info.withLiked(likedProductIds.contains(info.productId())))
+                .toList();
+    }
 
     public List<RankingInfo> getTopRankings(String date, int page, int size, String period) {
+        if (!PERIODS.contains(period)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "period는 daily, weekly, monthly 중 하나여야 합니다.");
+        }
+        Cache cache = cacheManager.getCache(CacheConfig.RANKING_PAGE);
+        if (cache == null) {
+            return loadTopRankings(date, page, size, period);
+        }
+        return cache.get(pageKey(period, date, page, size), () -> loadTopRankings(date, page, size, period));
+    }
+
+    // 잠금을 잡은 노드만 오늘 날짜의 앞쪽 페이지를 다시 만들어 덮어쓴다. 반환값은 갱신한 페이지 수다.
+    public int refreshCachedPages() {
+        Cache cache = cacheManager.getCache(CacheConfig.RANKING_PAGE);
+        if (cache == null || !rankingPageRefreshLock.tryAcquire(REFRESH_LEASE)) {
+            return 0;
+        }
+        String today = LocalDate.now().format(DATE_FORMATTER);
+        int refreshed = 0;
+        for (String period : PERIODS) {
+            for (int page = 0; page < REFRESH_PAGES; page++) {
+                try {
+                    List<RankingInfo> rankings = loadTopRankings(today, page, REFRESH_PAGE_SIZE, period);
+                    cache.put(pageKey(period, today, page, REFRESH_PAGE_SIZE), rankings);
+                    refreshed++;
+                    if (rankings.size() < REFRESH_PAGE_SIZE) {
+                        break;
+                    }
+                } catch (Exception e) {
+                    log.warn("랭킹 페이지 캐시 갱신 실패: period={}, page={}, error={}", period, page, e.getMessage());
+                    break;
+                }
+            }
+        }
+        return refreshed;
+    }
+
+    private static String pageKey(String period, String date, int page, int size) {
+        return period + ":" + date + ":" + page + ":" + size;
+    }
+
+    private List<RankingInfo> loadTopRankings(String date, int page, int size, String period) {
         return switch (period) {
             case "daily" -> getTopRankingsDaily(date, page, size);
             case "weekly" -> getTopRankingsWeekly(date, page, size);
@@ -44,8 +121,10 @@ public class RankingFacade {
     }
 
     private List<RankingInfo> getTopRankingsDaily(String date, int page, int size) {
-        List<Long> productIds = rankingService.getTopProductIds(date, page, size);
-        if (productIds.isEmpty()) return List.of();
+        List<RankedProduct> ranked = rankingService.getTopProducts(date, page, size);
+        if (ranked.isEmpty()) return List.of();
+
+        List<Long> productIds = ranked.stream().map(RankedProduct::productId).toList();
 
         List<Product> products = productService.getProductsByIds(productIds);
         Map<Long, Product> productMap = products.stream()
@@ -55,9 +134,9 @@ public class RankingFacade {
         Map<Long, Brand> brandMap = brandService.getBrandsByIds(brandIds);
 
         List<RankingInfo> result = new ArrayList<>();
-        for (int i = 0; i < productIds.size(); i++) {
-            Long productId = productIds.get(i);
-            Product product = productMap.get(productId);
+        for (int i = 0; i < ranked.size(); i++) {
+            RankedProduct item = ranked.get(i);
+            Product product = productMap.get(item.productId());
             if (product == null) continue;
             Brand brand = brandMap.get(product.getBrandId());
             result.add(new RankingInfo(
@@ -67,7 +146,9 @@ public class RankingFacade {
                     product.getImageUrl(),
                     product.getPrice(),
                     brand != null ? brand.getId() : null,
-                    brand != null ? brand.getName() : null
+                    brand != null ? brand.getName() : null,
+                    item.score(),
+                    false
             ));
         }
         return result;
@@ -98,7 +179,9 @@ public class RankingFacade {
                             product.getImageUrl(),
                             product.getPrice(),
                             brand != null ? brand.getId() : null,
-                            brand != null ? brand.getName() : null
+                            brand != null ? brand.getName() : null,
+                            item.getScore(),
+                            false
                     );
                 })
                 .filter(info -> info != null)
@@ -130,7 +213,9 @@ public class RankingFacade {
                             product.getImageUrl(),
                             product.getPrice(),
                             brand != null ? brand.getId() : null,
-                            brand != null ? brand.getName() : null
+                            brand != null ? brand.getName() : null,
+                            item.getScore(),
+                            false
                     );
                 })
                 .filter(info -> info != null)
@@ -7,5 +7,11 @@ public record RankingInfo(
         String imageUrl,
         int price,
         Long brandId,
-        String brandName
-) {}
+        String brandName,
+        double score,
+        boolean liked
+) {
+    public RankingInfo withLiked(boolean liked) {
+        return new RankingInfo(rank, productId, productName, imageUrl, price, brandId, brandName, score, liked);
+    }
+}
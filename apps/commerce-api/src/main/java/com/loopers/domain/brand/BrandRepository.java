@@ -10,4 +10,10 @@ public interface BrandRepository {
     Optional<Brand> findByName(String name);
     boolean existsByName(String name);
     List<Brand> findAllByIds(List<Long> ids);
+
+    // 조회 전용. 노드 로컬 스냅샷에서 찾고, 없을 때만 DB 를 조회한다. 반환된 엔티티는 수정하면 안 된다.
+    Optional<Brand> findSnapshotById(Long id);
+    List<Brand> findSnapshotsByIds(List<Long> ids);
+    // 브랜드가 바뀌었음을 알린다. 트랜잭션 커밋 후 모든 노드의 스냅샷이 다시 읽힌다.
+    void invalidateSnapshot();
 }
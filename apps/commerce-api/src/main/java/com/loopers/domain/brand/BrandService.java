@@ -22,20 +22,21 @@ public class BrandService {
             throw new CoreException(ErrorType.CONFLICT, "이미 존재하는 브랜드 이름입니다.");
         }
 
-        Brand brand = new Brand(name, description, imageUrl);
-        return brandRepository.save(brand);
+        Brand brand = brandRepository.save(new Brand(name, description, imageUrl));
+        brandRepository.invalidateSnapshot();
+        return brand;
     }
 
     @Transactional(readOnly = true)
     public Brand getBrand(Long id) {
-        return brandRepository.findById(id)
+        return brandRepository.findSnapshotById(id)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "브랜드를 찾을 수 없습니다."));
     }
 
     @Transactional(readOnly = true)
     public Map<Long, Brand> getBrandsByIds(List<Long> ids) {
-        return brandRepository.findAllByIds(ids).stream()
-            .collect(Collectors.toMap(Brand::getId, b -> b));
+        return brandRepository.findSnapshotsByIds(ids).stream()
+            .collect(Collectors.toMap(Brand::getId, b -> b, (a, b) -> a));
     }
 
     @Transactional(readOnly = true)
@@ -55,6 +56,7 @@ public class BrandService {
         });
 
         brand.update(name, description, imageUrl);
+        brandRepository.invalidateSnapshot();
         return brand;
     }
 
@@ -64,5 +66,6 @@ public class BrandService {
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "브랜드를 찾을 수 없습니다."));
 
         brand.delete();
+        brandRepository.invalidateSnapshot();
     }
 }
@@ -0,0 +1,18 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 상품 ID 집합. 목록/랭킹 화면의 liked 표시를 상품 수와 무관하게 한 번에 확인하기 위해 둔다.
+ * 집합이 아직 채워지지 않은 사용자는 {@link #findLiked} 가 빈 Optional 을 반환하고, 호출자가 원본에서 읽어 {@link #load} 한다.
+ */
+public interface LikedProductIndex {
+    Optional<Set<Long>> findLiked(Long userId, List<Long> productIds);
+    void load(Long userId, Collection<Long> likedProductIds);
+    void add(Long userId, Long productId);
+    void remove(Long userId, Long productId);
+    void evict(Long userId);
+}
@@ -7,13 +7,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
 import java.time.ZonedDateTime;
 
 @Entity
-@Table(name = "product_likes")
+@Table(
+    name = "product_likes",
+    indexes = {
+        // 내 좋아요 목록 키셋 페이지네이션 (user_id 로 범위를 좁히고 id 역순으로 읽는다)
+        @Index(name = "idx_product_likes_user_id", columnList = "user_id, id DESC")
+    }
+)
 public class ProductLike {
 
     @Id
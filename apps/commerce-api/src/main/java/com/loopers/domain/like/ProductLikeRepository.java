@@ -1,12 +1,17 @@
 package com.loopers.domain.like;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductLikeRepository {
     ProductLike save(ProductLike productLike);
     Optional<ProductLike> findByUserIdAndProductId(Long userId, Long productId);
-    void deleteByUserIdAndProductId(Long userId, Long productId);
+    long deleteByUserIdAndProductId(Long userId, Long productId);
     long countByProductId(Long productId);
-    List<ProductLike> findAllByUserId(Long userId);
+    Map<Long, Long> countByProductIds(List<Long> productIds);
+    // 최근 좋아요 순(id 내림차순)으로 lastId 보다 작은 좋아요를 size 건 가져온다. lastId 가 null 이면 처음부터.
+    List<ProductLike> findPageByUserId(Long userId, Long lastId, int size);
+    List<Long> findLikedProductIds(Long userId, List<Long> productIds);
+    List<Long> findProductIdsByUserId(Long userId);
 }
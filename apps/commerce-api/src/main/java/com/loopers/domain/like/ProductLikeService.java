@@ -4,38 +4,72 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Component
 public class ProductLikeService {
 
     private final ProductLikeRepository productLikeRepository;
+    private final LikedProductIndex likedProductIndex;
 
+    // 실제로 좋아요가 추가되었을 때만 true 를 반환한다. 호출자는 이 값으로 좋아요 수 반영 여부를 결정한다.
     @Transactional
-    public void like(Long userId, Long productId) {
+    public boolean like(Long userId, Long productId) {
         boolean alreadyLiked = productLikeRepository.findByUserIdAndProductId(userId, productId).isPresent();
         if (alreadyLiked) {
-            return;
+            return false;
         }
         ProductLike productLike = new ProductLike(userId, productId);
         productLikeRepository.save(productLike);
+        return true;
     }
 
     @Transactional
-    public void unlike(Long userId, Long productId) {
-        productLikeRepository.deleteByUserIdAndProductId(userId, productId);
+    public boolean unlike(Long userId, Long productId) {
+        return productLikeRepository.deleteByUserIdAndProductId(userId, productId) > 0;
     }
 
     public long getLikeCount(Long productId) {
         return productLikeRepository.countByProductId(productId);
     }
 
+    // 좋아요 수 정합성 점검용. 조회 경로에서는 Product.likeCount 를 사용한다.
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getLikeCounts(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productLikeRepository.countByProductIds(productIds);
+    }
+
     public boolean isLiked(Long userId, Long productId) {
-        return productLikeRepository.findByUserIdAndProductId(userId, productId).isPresent();
+        return getLikedProductIds(userId, List.of(productId)).contains(productId);
+    }
+
+    // 주어진 상품 중 사용자가 좋아요한 상품 ID 를 사용자별 집합에서 한 번에 확인한다.
+    // 집합이 없으면 사용자의 좋아요 전체를 한 번 읽어 채우고, 이후 요청은 DB 를 거치지 않는다.
+    public Set<Long> getLikedProductIds(Long userId, List<Long> productIds) {
+        if (userId == null || productIds.isEmpty()) {
+            return Set.of();
+        }
+        Optional<Set<Long>> indexed = likedProductIndex.findLiked(userId, productIds);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+        List<Long> allLiked = productLikeRepository.findProductIdsByUserId(userId);
+        likedProductIndex.load(userId, allLiked);
+        Set<Long> liked = new HashSet<>(allLiked);
+        liked.retainAll(new HashSet<>(productIds));
+        return liked;
     }
 
-    public List<ProductLike> getLikedProducts(Long userId) {
-        return productLikeRepository.findAllByUserId(userId);
+    @Transactional(readOnly = true)
+    public List<ProductLike> getLikesPage(Long userId, Long lastId, int size) {
+        return productLikeRepository.findPageByUserId(userId, lastId, size);
     }
 }
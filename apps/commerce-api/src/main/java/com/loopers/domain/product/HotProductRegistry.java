@@ -0,0 +1,14 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 좋아요가 몰리는 상품을 기록한다. 기록은 일정 시간 뒤 만료되어, 잠잠해진 상품은 다시 일반 반영으로 돌아간다.
+ */
+public interface HotProductRegistry {
+
+    Set<Long> findHot(Collection<Long> productIds);
+
+    void markHot(Long productId);
+}
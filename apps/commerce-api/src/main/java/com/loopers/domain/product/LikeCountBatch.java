@@ -0,0 +1,9 @@
+package com.loopers.domain.product;
+
+import java.util.Map;
+
+/**
+ * 버퍼에서 떼어낸 상품별 좋아요 수 증감 묶음. 반영이 끝나면 batchId 로 완료 처리한다.
+ */
+public record LikeCountBatch(String batchId, Map<Long, Long> deltas) {
+}
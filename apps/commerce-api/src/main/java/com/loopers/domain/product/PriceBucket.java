@@ -0,0 +1,37 @@
+package com.loopers.domain.product;
+
+/**
+ * 패싯 집계용 가격 구간. 하한은 포함하고 상한은 포함하지 않는다.
+ */
+public enum PriceBucket {
+    UNDER_10000(0, 10_000),
+    FROM_10000_TO_30000(10_000, 30_000),
+    FROM_30000_TO_50000(30_000, 50_000),
+    FROM_50000_TO_100000(50_000, 100_000),
+    OVER_100000(100_000, null);
+
+    private final int minPrice;
+    private final Integer maxPrice;
+
+    PriceBucket(int minPrice, Integer maxPrice) {
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    public static PriceBucket of(int price) {
+        for (PriceBucket bucket : values()) {
+            if (bucket.maxPrice == null || price < bucket.maxPrice) {
+                return bucket;
+            }
+        }
+        return OVER_100000;
+    }
+
+    public int getMinPrice() {
+        return minPrice;
+    }
+
+    public Integer getMaxPrice() {
+        return maxPrice;
+    }
+}
@@ -12,14 +12,16 @@ import jakarta.persistence.Table;
 @Table(
     name = "products",
     indexes = {
-        // 전체 조회 정렬 인덱스
-        @Index(name = "idx_products_created_at",  columnList = "created_at DESC"),
-        @Index(name = "idx_products_price",       columnList = "price ASC"),
-        @Index(name = "idx_products_like_count",  columnList = "like_count DESC"),
+        // 전체 조회 정렬 인덱스 (id 는 커서 조회 시 동순위 구분용 tie-breaker)
+        @Index(name = "idx_products_created_at",  columnList = "created_at DESC, id ASC"),
+        @Index(name = "idx_products_price",       columnList = "price ASC, id ASC"),
+        @Index(name = "idx_products_like_count",  columnList = "like_count DESC, id ASC"),
         // 브랜드 필터 + 정렬 복합 인덱스 (brand_id 선행 컬럼으로 range scan 후 정렬)
-        @Index(name = "idx_products_brand_created_at", columnList = "brand_id, created_at DESC"),
-        @Index(name = "idx_products_brand_price",      columnList = "brand_id, price ASC"),
-        @Index(name = "idx_products_brand_like_count", columnList = "brand_id, like_count DESC")
+        @Index(name = "idx_products_brand_created_at", columnList = "brand_id, created_at DESC, id ASC"),
+        @Index(name = "idx_products_brand_price",      columnList = "brand_id, price ASC, id ASC"),
+        @Index(name = "idx_products_brand_like_count", columnList = "brand_id, like_count DESC, id ASC")
+        // 좋아요 순 목록은 주로 Redis 인덱스(ProductLikeOrderRepository)로 읽고, like_count 인덱스는
+        // 인덱스 준비 전/가격 조건/커서 seek 대체 경로와 워밍업 집계가 사용한다. like_count 는 배치로 반영되어 인덱스 갱신도 묶인다.
     }
 )
 public class Product extends BaseEntity {
@@ -0,0 +1,7 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품 수정/삭제 결과. 같은 트랜잭션에서 읽은 변경 전 가격과 활성 여부를 함께 돌려줘, 호출 측이 다시 조회하지 않게 한다.
+ */
+public record ProductChange(Product product, int previousPrice, boolean previouslyActive) {
+}
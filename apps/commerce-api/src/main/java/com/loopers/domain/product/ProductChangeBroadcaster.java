@@ -0,0 +1,16 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 상품 변경을 다른 노드에 알린다. 노드 로컬 상태(검색 색인 등)를 맞추는 데 사용한다.
+ * 자신이 보낸 알림은 자신에게 전달되지 않는다.
+ * 브랜드 수정/삭제처럼 여러 상품이 함께 바뀌면 상품 ID 목록을 한 번에 보낸다.
+ */
+public interface ProductChangeBroadcaster {
+
+    void broadcast(List<Long> productIds);
+
+    void subscribe(Consumer<List<Long>> listener);
+}
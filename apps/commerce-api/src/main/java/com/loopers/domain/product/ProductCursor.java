@@ -0,0 +1,49 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서. 정렬 기준 값과 id 로 마지막 위치를 표현한다.
+ * - LATEST: created_at(epoch micros), PRICE_ASC: price, LIKES_DESC: like_count
+ */
+public record ProductCursor(ProductSort sort, long value, Long id) {
+
+    public static ProductCursor of(Product product, ProductSort sort) {
+        long value = switch (sort) {
+            case LATEST -> ChronoUnit.MICROS.between(Instant.EPOCH, product.getCreatedAt().toInstant());
+            case PRICE_ASC -> product.getPrice();
+            case LIKES_DESC -> product.getLikeCount();
+        };
+        return new ProductCursor(sort, value, product.getId());
+    }
+
+    public static ProductCursor decode(String cursor, ProductSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+            }
+            return new ProductCursor(sort, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + ":" + value + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ZonedDateTime createdAt() {
+        return ZonedDateTime.ofInstant(Instant.EPOCH.plus(value, ChronoUnit.MICROS), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.product;
+
+/**
+ * (브랜드, 가격 구간) 한 칸의 상품 수. 패싯 카운터를 다시 만들 때 사용한다.
+ */
+public record ProductFacetCount(Long brandId, PriceBucket priceBucket, long count) {
+}
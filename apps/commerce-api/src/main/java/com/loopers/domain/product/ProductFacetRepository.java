@@ -0,0 +1,21 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 상품 목록 패싯(브랜드별, 가격 구간별 상품 수)을 미리 집계해 둔 카운터.
+ * 상품 쓰기 시 증감으로 갱신하고, 어긋난 값은 주기적인 재구축({@link #replaceAll})으로 맞춘다.
+ */
+public interface ProductFacetRepository {
+
+    void increase(Long brandId, int price, long delta);
+
+    ProductFacets findFacets(Long brandId);
+
+    // 삭제되지 않은 상품 수. brandId 가 null 이면 전체 상품 수다.
+    long countProducts(Long brandId);
+
+    void removeBrand(Long brandId);
+
+    void replaceAll(List<ProductFacetCount> counts);
+}
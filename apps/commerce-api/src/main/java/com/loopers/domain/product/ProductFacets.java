@@ -0,0 +1,13 @@
+package com.loopers.domain.product;
+
+import java.util.Map;
+
+/**
+ * 삭제되지 않은 상품의 브랜드별, 가격 구간별 상품 수.
+ * 브랜드 조건이 있으면 가격 구간별 수는 해당 브랜드 안에서 센 값이다.
+ */
+public record ProductFacets(
+    Map<Long, Long> brandCounts,
+    Map<PriceBucket, Long> priceBucketCounts
+) {
+}
@@ -0,0 +1,31 @@
+package com.loopers.domain.product;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 좋아요 수 증감을 상품별로 모아 두었다가 주기적으로 MySQL 에 반영(write-behind)하기 위한 버퍼.
+ * 좋아요마다 상품 행을 잠그지 않고, 반영 주기마다 상품당 UPDATE 한 번으로 합친다.
+ */
+public interface ProductLikeCountBuffer {
+
+    void add(Long productId, long delta);
+
+    // 아직 MySQL 에 반영되지 않은 증감. 조회 시 저장된 값에 더해 방금 누른 좋아요가 보이게 한다.
+    long getPending(Long productId);
+
+    // 주어진 상품 중 아직 MySQL 에 반영되지 않은 증감(쌓이는 중, 반영 중, 완료되지 않은 배치)이 있는 상품
+    Set<Long> findUnappliedProductIds(List<Long> productIds);
+
+    /**
+     * 지금까지 쌓인 증감을 배치로 떼어낸다. 쌓인 것이 없으면 null 을 반환한다.
+     * 떼어낸 배치는 {@link #complete} 전까지 버퍼에 남아, 반영 도중 노드가 내려가도 유실되지 않는다.
+     */
+    LikeCountBatch drain();
+
+    // 떼어낸 지 olderThan 이 지나도록 완료되지 않은 배치를 이 노드가 가져간다. (반영 중 종료된 노드의 배치)
+    List<LikeCountBatch> claimStaleBatches(Duration olderThan);
+
+    void complete(String batchId);
+}
@@ -0,0 +1,93 @@
+package com.loopers.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인기 상품의 좋아요 수를 슬롯 행에 나눠 쓰고, 읽을 때 합산하며, 주기적으로 Product.likeCount 에 합친다.
+ * 슬롯 행이 있는 상품은 극히 일부라, 읽을 때는 인기 상품 표시와 슬롯 행이 남은 상품 목록으로 후보를 좁힌 뒤에만 합산한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductLikeCountService {
+
+    private static final int SLOT_COUNT = 16;
+    // 슬롯 행이 남은 상품 목록을 노드 로컬에 두는 시간. 표시가 만료된 뒤 합쳐지기 전까지의 상품을 놓치지 않기 위한 용도다.
+    private static final long SHARDED_IDS_TTL_MILLIS = Duration.ofSeconds(5).toMillis();
+
+    private final ProductRepository productRepository;
+    private final ProductLikeCountShardRepository productLikeCountShardRepository;
+    private final HotProductRegistry hotProductRegistry;
+
+    private volatile ShardedIds shardedIds = new ShardedIds(Set.of(), 0L);
+
+    // 동시에 들어온 좋아요가 같은 행을 기다리지 않도록 슬롯을 무작위로 고른다.
+    public void addToShard(Long productId, long delta) {
+        productLikeCountShardRepository.add(productId, ThreadLocalRandom.current().nextInt(SLOT_COUNT), delta);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getUnfoldedCounts(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> candidates = findShardCandidates(productIds);
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        return productLikeCountShardRepository.sumByProductIds(candidates);
+    }
+
+    // 인기 상품 표시를 확인하지 못하면 모든 상품을 후보로 둔다. (합계가 빠지는 것보다 조회가 느린 편이 낫다)
+    private Set<Long> findShardCandidates(List<Long> productIds) {
+        Set<Long> candidates;
+        try {
+            candidates = new HashSet<>(hotProductRegistry.findHot(productIds));
+        } catch (RuntimeException e) {
+            return new HashSet<>(productIds);
+        }
+        Set<Long> sharded = currentShardedIds();
+        for (Long productId : productIds) {
+            if (sharded.contains(productId)) {
+                candidates.add(productId);
+            }
+        }
+        return candidates;
+    }
+
+    private Set<Long> currentShardedIds() {
+        ShardedIds current = shardedIds;
+        long now = System.currentTimeMillis();
+        if (now - current.loadedAt() < SHARDED_IDS_TTL_MILLIS) {
+            return current.productIds();
+        }
+        Set<Long> loaded = Set.copyOf(productLikeCountShardRepository.findShardedProductIds());
+        shardedIds = new ShardedIds(loaded, now);
+        return loaded;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getShardedProductIds() {
+        return productLikeCountShardRepository.findShardedProductIds();
+    }
+
+    // 슬롯 합계를 likeCount 에 더하고 슬롯을 비운다. 두 작업이 한 트랜잭션이라 합계가 두 번 더해지거나 빠지지 않는다.
+    @Transactional
+    public long fold(Long productId) {
+        long sum = productLikeCountShardRepository.takeAll(productId);
+        if (sum != 0) {
+            productRepository.increaseLikeCounts(Map.of(productId, sum));
+        }
+        return sum;
+    }
+
+    private record ShardedIds(Set<Long> productIds, long loadedAt) {}
+}
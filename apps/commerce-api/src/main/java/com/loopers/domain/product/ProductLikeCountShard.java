@@ -0,0 +1,52 @@
+package com.loopers.domain.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 인기 상품의 좋아요 수 증감을 products 행 대신 나눠 담는 슬롯 행.
+ * 상품당 여러 슬롯에 흩어 쓰므로 좋아요 반영이 products 행(재고 차감 잠금과 같은 행)을 잡지 않는다.
+ * 슬롯 값은 주기적으로 Product.likeCount 에 합쳐지고 지워진다.
+ */
+@Entity
+@Table(name = "product_like_count_shards", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_product_like_count_shards_product_slot", columnNames = {"product_id", "slot"})
+})
+public class ProductLikeCountShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "slot", nullable = false)
+    private int slot;
+
+    @Column(name = "delta", nullable = false)
+    private long delta;
+
+    protected ProductLikeCountShard() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductLikeCountShardRepository {
+
+    // 슬롯 행이 없으면 만들고, 있으면 delta 를 더한다.
+    void add(Long productId, int slot, long delta);
+
+    // 아직 Product.likeCount 에 합쳐지지 않은 상품별 합계. 슬롯이 없는 상품은 결과에 없다.
+    Map<Long, Long> sumByProductIds(Collection<Long> productIds);
+
+    List<Long> findShardedProductIds();
+
+    // 상품의 슬롯 행을 잠그고 합계를 구한 뒤, 잠근 행만 지운다. 트랜잭션 안에서 호출해야 한다.
+    long takeAll(Long productId);
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 좋아요 순 정렬용 보조 인덱스. (전체, 브랜드별)
+ * 좋아요 순 목록을 MySQL 정렬 없이 ID 로 바로 읽게 한다. 순서는 MySQL 과 같은 (좋아요 수 DESC, id ASC) 이다.
+ * brandId 가 null 이면 전체 인덱스를 의미한다.
+ */
+public interface ProductLikeOrderRepository {
+
+    // 인덱스가 한 번 이상 재구축되어 조회에 사용할 수 있는지 여부
+    boolean isReady();
+
+    List<Long> findProductIds(Long brandId, long offset, int count);
+
+    // 좋아요 순 위치(0부터). 인덱스에 없으면 null
+    Long findPosition(Long brandId, Long productId);
+
+    // 이미 있으면 점수를 바꾸지 않는다.
+    void add(Long brandId, Long productId);
+
+    void increase(Long brandId, Long productId, long delta);
+
+    void put(Long brandId, Long productId, long likeCount);
+
+    void remove(Long brandId, Long productId);
+
+    void removeBrand(Long brandId);
+
+    // 재구축: rebuildId 별 임시 인덱스에 청크 단위로 적재한 뒤 publishRebuild 로 한 번에 교체한다.
+    void stageRebuild(String rebuildId, List<Product> products);
+
+    void publishRebuild(String rebuildId);
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.product;
+
+public interface ProductListGenerationRepository {
+    long getGlobalGeneration();
+    long getBrandGeneration(Long brandId);
+    void increase(Long brandId);
+}
@@ -0,0 +1,30 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+/**
+ * 목록 조회의 가격 구간 조건. 양 끝은 모두 포함하며, null 이면 해당 방향으로 제한이 없다.
+ */
+public record ProductPriceRange(Integer minPrice, Integer maxPrice) {
+
+    public static final ProductPriceRange ALL = new ProductPriceRange(null, null);
+
+    public static ProductPriceRange of(Integer minPrice, Integer maxPrice) {
+        if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "가격 조건은 0 이상이어야 합니다.");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+        return new ProductPriceRange(minPrice, maxPrice);
+    }
+
+    public boolean isUnbounded() {
+        return minPrice == null && maxPrice == null;
+    }
+
+    public boolean contains(int price) {
+        return (minPrice == null || price >= minPrice) && (maxPrice == null || price <= maxPrice);
+    }
+}
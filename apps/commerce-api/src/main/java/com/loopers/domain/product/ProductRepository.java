@@ -1,6 +1,8 @@
 package com.loopers.domain.product;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -8,9 +10,23 @@ public interface ProductRepository {
     Optional<Product> findById(Long id);
     Optional<Product> findByIdForUpdate(Long id);
     List<Product> findAll();
-    List<Product> findAllPaged(Long brandId, ProductSort sort, int page, int size);
+    List<Product> findAllPaged(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size);
+    List<ProductSummary> findSummaries(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size);
+    List<Product> findAllByCursor(Long brandId, ProductSort sort, ProductCursor cursor, int size);
     List<Product> findAllOrderByLikeCountDesc();
     List<Product> findAllByBrandId(Long brandId);
     List<Product> findAllByBrandIdOrderByLikeCountDesc(Long brandId);
     List<Product> findAllByIds(List<Long> ids);
+    List<Product> findAllAfterId(Long lastId, int size);
+    // 삭제되지 않은 상품만 한 번의 IN 조회로 가져온다. 순서는 보장하지 않는다.
+    List<Product> findActiveByIds(List<Long> ids);
+    List<Long> findTopBrandIdsByLikeCount(int size);
+    // 삭제되지 않은 상품을 (브랜드, 가격 구간)별로 센다. 패싯 카운터 재구축용이다.
+    List<ProductFacetCount> countByBrandAndPriceBucket();
+    boolean updateLikeCount(Long productId, long expected, long actual);
+    // 상품별 증감을 like_count = like_count + delta 로 한 번에 반영하고 변경 건수를 반환한다.
+    int increaseLikeCounts(Map<Long, Long> deltas);
+    List<Long> findActiveIdsByBrandIdAfter(Long brandId, Long lastId, int size);
+    // (fromId, toId] 범위의 삭제되지 않은 상품을 소프트 삭제하고 변경 건수를 반환한다.
+    int softDeleteByBrandIdInIdRange(Long brandId, Long fromId, Long toId, ZonedDateTime deletedAt);
 }
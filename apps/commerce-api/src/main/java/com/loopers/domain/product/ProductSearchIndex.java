@@ -0,0 +1,190 @@
+package com.loopers.domain.product;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * 상품명/설명/브랜드명에 대한 노드 로컬 역색인.
+ * - 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많아 단어 대신 1-gram, 2-gram 으로 색인하고,
+ *   후보를 gram 교집합으로 좁힌 뒤 원문 포함 여부로 확인한다. (부분 문자열 검색과 같은 결과)
+ * - 자동완성은 상품명/브랜드명 단어를 정렬 맵에 두고 접두사 구간을 읽는다.
+ * 쓰기는 드물어 직렬화하고, 조회는 잠금 없이 동시 자료구조를 읽는다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // 짧은 접두사로 너무 많은 단어를 훑지 않도록 자동완성 후보 수를 제한한다.
+    private static final int MAX_SUGGESTION_CANDIDATES = 200;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> words = new ConcurrentSkipListMap<>();
+
+    public synchronized void index(Long productId, String name, String description, String brandName, long likeCount) {
+        removeDocument(productId);
+        String text = normalize(String.join(" ", nullToEmpty(name), nullToEmpty(brandName), nullToEmpty(description)));
+        Set<String> grams = new HashSet<>();
+        for (String term : terms(text)) {
+            grams.addAll(grams(term));
+        }
+        Set<String> suggestWords = new HashSet<>(terms(normalize(nullToEmpty(name) + " " + nullToEmpty(brandName))));
+
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(productId);
+        }
+        for (String word : suggestWords) {
+            words.computeIfAbsent(word, k -> ConcurrentHashMap.newKeySet()).add(productId);
+        }
+        documents.put(productId, new Document(productId, text, grams, suggestWords, likeCount));
+    }
+
+    public synchronized void remove(Long productId) {
+        removeDocument(productId);
+    }
+
+    /**
+     * 검색어의 모든 단어를 포함하는 상품 ID 를 좋아요 순(동점은 ID 순)으로 반환한다.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> queryTerms = terms(normalize(nullToEmpty(query)));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> candidates = null;
+        for (String term : queryTerms) {
+            for (String gram : queryGrams(term)) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                if (candidates == null) {
+                    candidates = new HashSet<>(posting);
+                } else {
+                    candidates.retainAll(posting);
+                }
+                if (candidates.isEmpty()) {
+                    return List.of();
+                }
+            }
+        }
+
+        List<Document> matched = new ArrayList<>();
+        for (Long productId : candidates) {
+            Document document = documents.get(productId);
+            if (document != null && queryTerms.stream().allMatch(document.text()::contains)) {
+                matched.add(document);
+            }
+        }
+        return matched.stream()
+            .sorted(Comparator.comparingLong(Document::likeCount).reversed().thenComparing(Document::productId))
+            .limit(limit)
+            .map(Document::productId)
+            .toList();
+    }
+
+    /**
+     * 접두사로 시작하는 상품명/브랜드명 단어를, 해당 단어를 가진 상품이 많은 순으로 반환한다.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String normalized = normalize(nullToEmpty(prefix)).strip();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        ConcurrentNavigableMap<String, Set<Long>> range = words.subMap(normalized, true, normalized + Character.MAX_VALUE, true);
+        return range.entrySet().stream()
+            .limit(MAX_SUGGESTION_CANDIDATES)
+            .sorted(Map.Entry.<String, Set<Long>>comparingByValue(Comparator.comparingInt(Set::size)).reversed()
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private void removeDocument(Long productId) {
+        Document document = documents.remove(productId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            removeFrom(postings, gram, productId);
+        }
+        for (String word : document.words()) {
+            removeFrom(words, word, productId);
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<Long>> index, String key, Long productId) {
+        Set<Long> ids = index.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(productId);
+        if (ids.isEmpty()) {
+            index.remove(key, ids);
+        }
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATOR.split(text)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // 한 글자 검색어도 찾을 수 있도록 1-gram 과 2-gram 을 함께 색인한다.
+    private static Set<String> grams(String term) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = term.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    // 한 글자 검색어는 1-gram, 그보다 긴 검색어는 2-gram 으로 찾는다.
+    private static Set<String> queryGrams(String term) {
+        int[] codePoints = term.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return Set.of(term);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private record Document(Long productId, String text, Set<String> grams, Set<String> words, long likeCount) {}
+}
@@ -4,14 +4,20 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
 public class ProductService {
 
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
 
     @Transactional
@@ -27,8 +33,35 @@ public class ProductService {
     }
 
     @Transactional(readOnly = true)
-    public List<Product> getProducts(Long brandId, ProductSort sort, int page, int size) {
-        return productRepository.findAllPaged(brandId, sort, page, size);
+    public List<Product> getProducts(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size) {
+        return productRepository.findAllPaged(brandId, priceRange, sort, page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getProductSummaries(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size) {
+        return productRepository.findSummaries(brandId, priceRange, sort, page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getTopLikedProductIds(int size) {
+        return productRepository.findSummaries(null, ProductPriceRange.ALL, ProductSort.LIKES_DESC, 0, size).stream()
+            .map(ProductSummary::productId)
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductFacetCount> countByBrandAndPriceBucket() {
+        return productRepository.countByBrandAndPriceBucket();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getPopularBrandIds(int size) {
+        return productRepository.findTopBrandIdsByLikeCount(size);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Product> getProductsByCursor(Long brandId, ProductSort sort, ProductCursor cursor, int size) {
+        return productRepository.findAllByCursor(brandId, sort, cursor, size);
     }
 
     @Transactional(readOnly = true)
@@ -36,6 +69,20 @@ public class ProductService {
         return productRepository.findAllByIds(ids);
     }
 
+    @Transactional(readOnly = true)
+    public List<Product> getActiveProductsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findActiveByIds(ids);
+    }
+
+    // 브랜드의 활성 상품 ID 를 id 순 키셋으로 읽는다. 엔티티는 로딩하지 않는다.
+    @Transactional(readOnly = true)
+    public List<Long> getActiveProductIdsByBrandIdAfter(Long brandId, Long lastId, int size) {
+        return productRepository.findActiveIdsByBrandIdAfter(brandId, lastId, size);
+    }
+
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAllOrderByLikeCountDesc();
@@ -47,40 +94,85 @@ public class ProductService {
     }
 
     @Transactional
-    public void increaseLikeCount(Long productId) {
+    public Product increaseLikeCount(Long productId) {
         Product product = productRepository.findByIdForUpdate(productId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
         product.increaseLikeCount();
+        return product;
     }
 
     @Transactional
-    public void decreaseLikeCount(Long productId) {
+    public Product decreaseLikeCount(Long productId) {
         Product product = productRepository.findByIdForUpdate(productId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
         product.decreaseLikeCount();
+        return product;
+    }
+
+    // 버퍼를 쓸 수 없을 때 한 건을 바로 반영한다. 커밋 이후(AFTER_COMMIT) 리스너에서 호출되므로 새 트랜잭션에서 실행해야 반영된다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyLikeCountDeltaNow(Long productId, long delta) {
+        productRepository.increaseLikeCounts(Map.of(productId, delta));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Product> getProductsAfterId(Long lastId, int size) {
+        return productRepository.findAllAfterId(lastId, size);
     }
 
+    // 버퍼에 모인 증감을 반영하고, 후속 처리(좋아요 순 인덱스 등)에 필요한 상품을 반환한다. 행 잠금은 UPDATE 한 번 동안만 잡힌다.
     @Transactional
-    public Product update(Long id, String name, String description, int price, int stock, String imageUrl) {
+    public List<Product> applyLikeCountDeltas(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+        productRepository.increaseLikeCounts(deltas);
+        return productRepository.findAllByIds(List.copyOf(deltas.keySet()));
+    }
+
+    // 읽은 시점 이후 좋아요 수가 바뀌었으면 덮어쓰지 않는다. (다음 점검에서 다시 비교)
+    @Transactional
+    public boolean correctLikeCount(Long productId, long expected, long actual) {
+        return productRepository.updateLikeCount(productId, expected, actual);
+    }
+
+    @Transactional
+    public ProductChange update(Long id, String name, String description, int price, int stock, String imageUrl) {
         Product product = productRepository.findById(id)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+        ProductChange change = new ProductChange(product, product.getPrice(), product.getDeletedAt() == null);
         product.update(name, description, price, stock, imageUrl);
-        return product;
+        return change;
     }
 
     @Transactional
-    public void delete(Long id) {
+    public ProductChange delete(Long id) {
         Product product = productRepository.findById(id)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+        ProductChange change = new ProductChange(product, product.getPrice(), product.getDeletedAt() == null);
         product.delete();
+        return change;
     }
 
-    @Transactional
-    public void deleteAllByBrandId(Long brandId) {
-        List<Product> products = productRepository.findAllByBrandId(brandId);
-        for (Product product : products) {
-            product.delete();
+    /**
+     * 브랜드의 상품을 id 구간별 벌크 UPDATE 로 소프트 삭제하고, 삭제한 상품 ID 를 반환한다.
+     * 엔티티를 로딩하지 않고, 청크마다 트랜잭션을 나눠 행 잠금을 짧게 유지한다.
+     */
+    public List<Long> deleteAllByBrandId(Long brandId) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<Long> deletedIds = new ArrayList<>();
+        Long lastId = 0L;
+        while (true) {
+            List<Long> ids = productRepository.findActiveIdsByBrandIdAfter(brandId, lastId, DELETE_CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            Long toId = ids.get(ids.size() - 1);
+            productRepository.softDeleteByBrandIdInIdRange(brandId, lastId, toId, now);
+            deletedIds.addAll(ids);
+            lastId = toId;
         }
+        return deletedIds;
     }
 
     @Transactional
@@ -0,0 +1,20 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 목록 조회용 상품 요약. 엔티티를 로딩하지 않고 필요한 컬럼과 브랜드명만 바로 조회한다.
+ */
+public record ProductSummary(
+    Long productId,
+    String productName,
+    String description,
+    int price,
+    int stock,
+    String imageUrl,
+    Long brandId,
+    String brandName,
+    long likeCount,
+    ZonedDateTime updatedAt
+) {
+}
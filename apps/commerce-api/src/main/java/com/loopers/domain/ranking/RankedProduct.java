@@ -0,0 +1,7 @@
+package com.loopers.domain.ranking;
+
+/**
+ * 랭킹 ZSET 의 한 항목. score 는 집계 가중치를 반영한 점수다.
+ */
+public record RankedProduct(Long productId, double score) {
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.ranking;
+
+import java.time.Duration;
+
+/**
+ * 랭킹 페이지 캐시 갱신을 여러 노드 중 한 곳에서만 하도록 한다.
+ * 잠금은 풀지 않고 leaseTime 이 지나면 만료되므로, leaseTime 동안에는 한 번만 획득된다.
+ */
+public interface RankingPageRefreshLock {
+    boolean tryAcquire(Duration leaseTime);
+}
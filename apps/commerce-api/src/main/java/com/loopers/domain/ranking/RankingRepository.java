@@ -1,9 +1,12 @@
 package com.loopers.domain.ranking;
 
 import java.util.List;
+import java.util.Map;
 
 public interface RankingRepository {
-    List<String> getTopProductIds(String date, int offset, int count);
+    List<RankedProduct> getTopProducts(String date, int offset, int count);
     Long getRank(String date, Long productId);
+    // 여러 상품의 0 부터 시작하는 순위를 한 번의 왕복으로 조회한다. 랭킹에 없는 상품은 결과에서 빠진다.
+    Map<Long, Long> getRanks(String date, List<Long> productIds);
     long getTotalCount(String date);
 }
@@ -3,7 +3,9 @@ package com.loopers.domain.ranking;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
@@ -11,10 +13,13 @@ public class RankingService {
 
     private final RankingRepository rankingRepository;
 
-    public List<Long> getTopProductIds(String date, int page, int size) {
+    public List<RankedProduct> getTopProducts(String date, int page, int size) {
         int offset = page * size;
-        return rankingRepository.getTopProductIds(date, offset, size)
-                .stream().map(Long::parseLong).toList();
+        return rankingRepository.getTopProducts(date, offset, size);
+    }
+
+    public List<Long> getTopProductIds(String date, int page, int size) {
+        return getTopProducts(date, page, size).stream().map(RankedProduct::productId).toList();
     }
 
     public Long getRank(String date, Long productId) {
@@ -22,6 +27,14 @@ public class RankingService {
         return rank != null ? rank + 1 : null;
     }
 
+    // 1 부터 시작하는 순위. 랭킹에 없는 상품은 결과에서 빠진다.
+    public Map<Long, Long> getRanks(String date, List<Long> productIds) {
+        if (productIds.isEmpty()) return Map.of();
+        Map<Long, Long> ranks = new HashMap<>();
+        rankingRepository.getRanks(date, productIds).forEach((productId, rank) -> ranks.put(productId, rank + 1));
+        return ranks;
+    }
+
     public long getTotalCount(String date) {
         return rankingRepository.getTotalCount(date);
     }
@@ -2,17 +2,34 @@ package com.loopers.infrastructure.brand;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-@RequiredArgsConstructor
 @Component
 public class BrandRepositoryImpl implements BrandRepository {
 
     private final BrandJpaRepository brandJpaRepository;
+    private final BrandSnapshotCache brandSnapshotCache;
+    private final TransactionTemplate snapshotTransaction;
+
+    public BrandRepositoryImpl(
+        BrandJpaRepository brandJpaRepository,
+        BrandSnapshotCache brandSnapshotCache,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.brandJpaRepository = brandJpaRepository;
+        this.brandSnapshotCache = brandSnapshotCache;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setReadOnly(true);
+    }
 
     @Override
     public Brand save(Brand brand) {
@@ -43,4 +60,41 @@ public class BrandRepositoryImpl implements BrandRepository {
     public List<Brand> findAllByIds(List<Long> ids) {
         return brandJpaRepository.findAllByIds(ids);
     }
+
+    // 다른 노드에서 방금 등록된 브랜드는 스냅샷에 아직 없을 수 있어, 없는 ID 만 DB 에서 읽는다.
+    @Override
+    public Optional<Brand> findSnapshotById(Long id) {
+        Brand brand = snapshot().get(id);
+        return brand != null ? Optional.of(brand) : brandJpaRepository.findById(id);
+    }
+
+    @Override
+    public List<Brand> findSnapshotsByIds(List<Long> ids) {
+        Map<Long, Brand> snapshot = snapshot();
+        List<Brand> result = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Brand brand = snapshot.get(id);
+            if (brand != null) {
+                result.add(brand);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            result.addAll(brandJpaRepository.findAllByIds(missingIds));
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidateSnapshot() {
+        brandSnapshotCache.invalidate();
+    }
+
+    // 호출자와 분리된 읽기 전용 트랜잭션에서 읽는다. 호출자 영속성 컨텍스트의 엔티티(커밋 전 변경 포함)를 공유하지 않고,
+    // 트랜잭션이 끝나면 준영속 상태가 되어 이후 같은 ID 를 findById 해도 스냅샷 인스턴스가 반환되지 않는다.
+    private Map<Long, Brand> snapshot() {
+        return brandSnapshotCache.get(() -> snapshotTransaction.execute(status -> brandJpaRepository.findAll()));
+    }
 }
@@ -0,0 +1,140 @@
+package com.loopers.infrastructure.brand;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.domain.brand.Brand;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 노드마다 브랜드 전체를 불변 Map 으로 들고 있다가, 버전이 바뀌면 통째로 다시 읽어 교체한다.
+ * 버전은 Redis 카운터이며, 브랜드 쓰기 커밋 후 증가시키고 Pub/Sub 으로 다른 노드에 바로 알린다.
+ * 메시지를 놓쳐도 로컬에 보관한 버전이 만료되면(3초) Redis 값을 다시 확인한다.
+ */
+@Slf4j
+@Component
+public class BrandSnapshotCache implements MessageListener {
+
+    private static final String VERSION_KEY = "brand:snapshot:version";
+    private static final String CHANNEL = "brand:snapshot";
+    private static final Duration VERSION_TTL = Duration.ofSeconds(3);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<String, Long> latestVersion;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public BrandSnapshotCache(RedisTemplate<String, String> redisTemplate, RedisMessageListenerContainer redisMessageListenerContainer) {
+        this(redisTemplate, redisMessageListenerContainer, VERSION_TTL);
+    }
+
+    BrandSnapshotCache(
+        RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        Duration versionTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.latestVersion = Caffeine.newBuilder()
+            .expireAfterWrite(versionTtl)
+            .maximumSize(1)
+            .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Map<Long, Brand> get(Supplier<List<Brand>> loader) {
+        long version = latestVersion();
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version) {
+            return current.brands();
+        }
+        return reload(version, loader).brands();
+    }
+
+    // 다른 노드나 진행 중인 요청은 교체 전까지 이전 스냅샷을 그대로 본다.
+    private synchronized Snapshot reload(long version, Supplier<List<Brand>> loader) {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        Map<Long, Brand> brands = loader.get().stream()
+            .collect(Collectors.toUnmodifiableMap(Brand::getId, Function.identity()));
+        Snapshot reloaded = new Snapshot(version, brands);
+        snapshot = reloaded;
+        return reloaded;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 버전을 올린다. 롤백된 변경으로 스냅샷을 다시 읽지 않게 하기 위함이다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increaseVersion();
+                }
+            });
+        } else {
+            increaseVersion();
+        }
+    }
+
+    private void increaseVersion() {
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+            if (version == null) {
+                return;
+            }
+            latestVersion.asMap().merge(VERSION_KEY, version, Math::max);
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(version));
+        } catch (Exception e) {
+            // 버전을 올리지 못하면 이 노드의 스냅샷만 버려 다음 조회에서 다시 읽는다.
+            snapshot = null;
+            log.warn("브랜드 스냅샷 버전 증가 실패: error={}", e.getMessage());
+        }
+    }
+
+    private long latestVersion() {
+        try {
+            return latestVersion.get(VERSION_KEY, key -> {
+                String value = redisTemplate.opsForValue().get(key);
+                return value != null ? Long.parseLong(value) : 0L;
+            });
+        } catch (Exception e) {
+            // Redis 장애 시에는 가지고 있는 스냅샷을 계속 사용한다.
+            Snapshot current = snapshot;
+            return current != null ? current.version() : 0L;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        latestVersion.asMap().merge(VERSION_KEY, Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)), Math::max);
+    }
+
+    private record Snapshot(long version, Map<Long, Brand> brands) {}
+}
@@ -6,12 +6,17 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -25,9 +30,19 @@ public class CacheConfig {
 
     public static final String PRODUCT_DETAIL = "productDetail";
     public static final String PRODUCT_LIST = "productList";
+    public static final String PRODUCT_LIST_KEY_GENERATOR = "productListKeyGenerator";
+    public static final String RANKING_PAGE = "rankingPage";
+
+    // 이 크기 이상의 값(주로 목록)만 압축한다. 상세 한 건은 압축 이득보다 CPU 비용이 크다.
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
 
     @Bean
-    public RedisCacheManager cacheManager(LettuceConnectionFactory lettuceConnectionFactory) {
+    public CacheManager cacheManager(
+        LettuceConnectionFactory lettuceConnectionFactory,
+        RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        MeterRegistry meterRegistry
+    ) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.registerModule(new ParameterNamesModule());
@@ -38,21 +53,57 @@ public class CacheConfig {
             JsonTypeInfo.As.PROPERTY
         );
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        // record 값은 compact 바이너리로 저장하고, 그 외 값과 전환 전 JSON 엔트리는 Jackson 으로 처리한다.
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        CompactCacheValueSerializer serializer = new CompactCacheValueSerializer(jsonSerializer, COMPRESSION_THRESHOLD_BYTES);
 
-        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
+        RedisCacheConfiguration baseConfig = RedisCacheConfiguration.defaultCacheConfig()
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
             .disableCachingNullValues();
+        RedisCacheConfiguration defaultConfig = withValueSerializer(baseConfig, serializer, meterRegistry, "default");
 
+        // 직렬화 크기 지표에 캐시 이름 태그를 붙이기 위해 캐시마다 직렬화기를 따로 감싼다.
         Map<String, RedisCacheConfiguration> cacheConfigurations = Map.of(
-            PRODUCT_DETAIL, defaultConfig.entryTtl(Duration.ofMinutes(10)),
-            PRODUCT_LIST, defaultConfig.entryTtl(Duration.ofMinutes(5))
+            PRODUCT_DETAIL, withValueSerializer(baseConfig, serializer, meterRegistry, PRODUCT_DETAIL)
+                .entryTtl(Duration.ofMinutes(10)),
+            PRODUCT_LIST, withValueSerializer(baseConfig, serializer, meterRegistry, PRODUCT_LIST)
+                .entryTtl(Duration.ofMinutes(5)),
+            // 주기 갱신(10초)이 멈춰도 오래된 랭킹이 남지 않도록 짧게 둔다.
+            RANKING_PAGE, withValueSerializer(baseConfig, serializer, meterRegistry, RANKING_PAGE)
+                .entryTtl(Duration.ofMinutes(1))
         );
 
-        return RedisCacheManager.builder(lettuceConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(lettuceConnectionFactory)
             .cacheDefaults(defaultConfig)
             .withInitialCacheConfigurations(cacheConfigurations)
             .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // L1 은 역직렬화된 객체를 그대로 보관하므로 L2 보다 짧은 TTL 로 노드 간 불일치 구간을 제한한다.
+        Map<String, TwoLevelCacheManager.LocalCacheSpec> localCacheSpecs = Map.of(
+            PRODUCT_DETAIL, new TwoLevelCacheManager.LocalCacheSpec(Duration.ofMinutes(1), 10_000),
+            PRODUCT_LIST, new TwoLevelCacheManager.LocalCacheSpec(Duration.ofSeconds(30), 20_000),
+            RANKING_PAGE, new TwoLevelCacheManager.LocalCacheSpec(Duration.ofSeconds(5), 5_000)
+        );
+        TwoLevelCacheManager.LocalCacheSpec defaultLocalCacheSpec =
+            new TwoLevelCacheManager.LocalCacheSpec(Duration.ofSeconds(30), 1_000);
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+            redisCacheManager, localCacheSpecs, defaultLocalCacheSpec, redisTemplate, meterRegistry
+        );
+        redisMessageListenerContainer.addMessageListener(
+            cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL)
+        );
+        return cacheManager;
+    }
+
+    private static RedisCacheConfiguration withValueSerializer(
+        RedisCacheConfiguration config,
+        CompactCacheValueSerializer serializer,
+        MeterRegistry meterRegistry,
+        String cacheName
+    ) {
+        MeteredRedisSerializer metered = new MeteredRedisSerializer(serializer, meterRegistry, cacheName);
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(metered));
     }
 }
@@ -0,0 +1,405 @@
+package com.loopers.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * com.loopers 패키지의 record 와 그 List 를 필드 이름/타입 정보 없이 선언 순서대로 기록하는 캐시 값 직렬화기.
+ * 클래스 이름은 record(또는 같은 record 로만 이뤄진 List) 당 한 번만 기록하고, 그 외 값은 fallback(JSON) 직렬화기에 맡긴다.
+ *
+ * 포맷: [MAGIC][flags][value...] — flags 에 압축 여부를 담고, 임계치 이상이면 value 부분을 Deflate 로 압축한다.
+ * record 마다 필드 구성 해시(schema fingerprint)를 함께 기록해, 배포로 필드가 바뀐 엔트리는 캐시 미스로 처리한다.
+ */
+@Slf4j
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB1;
+    private static final byte FLAG_COMPRESSED = 0x01;
+    private static final String ALLOWED_PACKAGE = "com.loopers.";
+
+    private static final byte T_NULL = 0;
+    private static final byte T_RECORD = 1;
+    private static final byte T_RECORD_LIST = 2;
+    private static final byte T_LIST = 3;
+    private static final byte T_STRING = 4;
+    private static final byte T_LONG = 5;
+    private static final byte T_INT = 6;
+    private static final byte T_TRUE = 7;
+    private static final byte T_FALSE = 8;
+    private static final byte T_DOUBLE = 9;
+    private static final byte T_ZONED_DATE_TIME = 10;
+    private static final byte T_ENUM = 11;
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final Map<Class<?>, RecordSchema> schemas = new ConcurrentHashMap<>();
+
+    public CompactCacheValueSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!isSupported(value)) {
+            return fallback.serialize(value);
+        }
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+            writeValue(new DataOutputStream(body), value);
+            byte[] raw = body.toByteArray();
+
+            boolean compress = raw.length >= compressionThreshold;
+            byte[] payload = compress ? deflate(raw) : raw;
+            byte[] result = new byte[payload.length + 2];
+            result[0] = MAGIC;
+            result[1] = compress ? FLAG_COMPRESSED : 0;
+            System.arraycopy(payload, 0, result, 2, payload.length);
+            return result;
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        // JSON 은 '{' / '[' / '"' 등으로 시작하므로 MAGIC 과 겹치지 않는다. 전환 전 엔트리는 그대로 읽힌다.
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        try {
+            byte[] raw = (bytes[1] & FLAG_COMPRESSED) != 0
+                ? inflate(bytes, 2)
+                : Arrays.copyOfRange(bytes, 2, bytes.length);
+            return readValue(new DataInputStream(new ByteArrayInputStream(raw)));
+        } catch (SchemaMismatchException e) {
+            log.debug("캐시 값의 스키마가 달라 미스로 처리합니다: {}", e.getMessage());
+            return null;
+        } catch (IOException | DataFormatException | ReflectiveOperationException e) {
+            throw new SerializationException("캐시 값 역직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private boolean isSupported(Object value) {
+        if (value instanceof List<?> list) {
+            return !list.isEmpty() && list.stream().allMatch(this::isSupportedRecord);
+        }
+        return isSupportedRecord(value);
+    }
+
+    private boolean isSupportedRecord(Object value) {
+        return value != null && value.getClass().isRecord() && value.getClass().getName().startsWith(ALLOWED_PACKAGE);
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(T_NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(T_STRING);
+            writeString(out, s);
+        } else if (value instanceof Long l) {
+            out.writeByte(T_LONG);
+            writeVarLong(out, l);
+        } else if (value instanceof Integer i) {
+            out.writeByte(T_INT);
+            writeVarLong(out, i);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(b ? T_TRUE : T_FALSE);
+        } else if (value instanceof Double d) {
+            out.writeByte(T_DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof ZonedDateTime t) {
+            out.writeByte(T_ZONED_DATE_TIME);
+            writeVarLong(out, t.toEpochSecond());
+            writeVarLong(out, t.getNano());
+            writeString(out, t.getZone().getId());
+        } else if (value instanceof Enum<?> e) {
+            out.writeByte(T_ENUM);
+            writeString(out, e.getDeclaringClass().getName());
+            writeString(out, e.name());
+        } else if (isSupportedRecord(value)) {
+            RecordSchema schema = schemaOf(value.getClass());
+            out.writeByte(T_RECORD);
+            writeSchemaHeader(out, schema);
+            writeFields(out, schema, value);
+        } else if (value instanceof List<?> list) {
+            writeList(out, list);
+        } else {
+            throw new SerializationException("지원하지 않는 캐시 값 타입입니다: " + value.getClass().getName());
+        }
+    }
+
+    private void writeList(DataOutputStream out, List<?> list) throws IOException {
+        Class<?> elementType = list.isEmpty() || list.get(0) == null ? null : list.get(0).getClass();
+        boolean homogeneousRecords = elementType != null && isSupportedRecord(list.get(0))
+            && list.stream().allMatch(e -> e != null && e.getClass() == elementType);
+
+        if (homogeneousRecords) {
+            RecordSchema schema = schemaOf(elementType);
+            out.writeByte(T_RECORD_LIST);
+            writeSchemaHeader(out, schema);
+            writeVarLong(out, list.size());
+            for (Object element : list) {
+                writeFields(out, schema, element);
+            }
+            return;
+        }
+        out.writeByte(T_LIST);
+        writeVarLong(out, list.size());
+        for (Object element : list) {
+            writeValue(out, element);
+        }
+    }
+
+    private void writeSchemaHeader(DataOutputStream out, RecordSchema schema) throws IOException {
+        writeString(out, schema.type().getName());
+        out.writeInt(schema.fingerprint());
+    }
+
+    // 원시 타입 필드는 태그 없이, 그 외 필드는 값 태그와 함께 기록한다.
+    private void writeFields(DataOutputStream out, RecordSchema schema, Object record) throws IOException {
+        try {
+            for (RecordComponent component : schema.components()) {
+                Object fieldValue = component.getAccessor().invoke(record);
+                Class<?> type = component.getType();
+                if (type == int.class || type == long.class) {
+                    writeVarLong(out, ((Number) fieldValue).longValue());
+                } else if (type == boolean.class) {
+                    out.writeBoolean((Boolean) fieldValue);
+                } else if (type == double.class) {
+                    out.writeDouble((Double) fieldValue);
+                } else {
+                    writeValue(out, fieldValue);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new SerializationException("record 필드를 읽을 수 없습니다: " + schema.type().getName(), e);
+        }
+    }
+
+    private Object readValue(DataInputStream in) throws IOException, ReflectiveOperationException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case T_NULL -> null;
+            case T_STRING -> readString(in);
+            case T_LONG -> readVarLong(in);
+            case T_INT -> (int) readVarLong(in);
+            case T_TRUE -> true;
+            case T_FALSE -> false;
+            case T_DOUBLE -> in.readDouble();
+            case T_ZONED_DATE_TIME -> {
+                long epochSecond = readVarLong(in);
+                int nano = (int) readVarLong(in);
+                yield ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), ZoneId.of(readString(in)));
+            }
+            case T_ENUM -> readEnum(in);
+            case T_RECORD -> readFields(in, readSchemaHeader(in));
+            case T_RECORD_LIST -> {
+                RecordSchema schema = readSchemaHeader(in);
+                int size = (int) readVarLong(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readFields(in, schema));
+                }
+                yield Collections.unmodifiableList(list);
+            }
+            case T_LIST -> {
+                int size = (int) readVarLong(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                yield Collections.unmodifiableList(list);
+            }
+            default -> throw new IOException("알 수 없는 값 태그입니다: " + tag);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readEnum(DataInputStream in) throws IOException, ClassNotFoundException {
+        Class<?> type = loadAllowedClass(readString(in));
+        if (!type.isEnum()) {
+            throw new IOException("enum 타입이 아닙니다: " + type.getName());
+        }
+        return Enum.valueOf((Class<? extends Enum>) type, readString(in));
+    }
+
+    private RecordSchema readSchemaHeader(DataInputStream in) throws IOException, ClassNotFoundException {
+        String className = readString(in);
+        int fingerprint = in.readInt();
+        Class<?> type = loadAllowedClass(className);
+        if (!type.isRecord()) {
+            throw new IOException("record 타입이 아닙니다: " + className);
+        }
+        RecordSchema schema = schemaOf(type);
+        if (schema.fingerprint() != fingerprint) {
+            throw new SchemaMismatchException(className);
+        }
+        return schema;
+    }
+
+    private Object readFields(DataInputStream in, RecordSchema schema) throws IOException, ReflectiveOperationException {
+        RecordComponent[] components = schema.components();
+        Object[] args = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Class<?> type = components[i].getType();
+            if (type == int.class) {
+                args[i] = (int) readVarLong(in);
+            } else if (type == long.class) {
+                args[i] = readVarLong(in);
+            } else if (type == boolean.class) {
+                args[i] = in.readBoolean();
+            } else if (type == double.class) {
+                args[i] = in.readDouble();
+            } else {
+                args[i] = readValue(in);
+            }
+        }
+        return schema.constructor().newInstance(args);
+    }
+
+    // 역직렬화 대상 클래스를 애플리케이션 패키지로 제한해, Redis 값으로 임의 클래스가 로딩되지 않도록 한다.
+    private Class<?> loadAllowedClass(String className) throws ClassNotFoundException {
+        if (!className.startsWith(ALLOWED_PACKAGE)) {
+            throw new SerializationException("허용되지 않은 캐시 값 타입입니다: " + className);
+        }
+        return Class.forName(className, false, getClass().getClassLoader());
+    }
+
+    private RecordSchema schemaOf(Class<?> type) {
+        return schemas.computeIfAbsent(type, RecordSchema::of);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // zigzag + varint: 작은 양수/음수 모두 1~2바이트로 기록된다.
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long v = 0;
+        int shift = 0;
+        while (true) {
+            byte b = in.readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IOException("잘못된 varint 입니다.");
+            }
+        }
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    // LZ4 는 의존성이 없어 JDK Deflater(BEST_SPEED)로 대신한다. 압축 전 길이를 앞에 기록한다.
+    private static byte[] deflate(byte[] raw) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            DataOutputStream header = new DataOutputStream(out);
+            writeVarLong(header, raw.length);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset) throws IOException, DataFormatException {
+        ByteArrayInputStream source = new ByteArrayInputStream(bytes, offset, bytes.length - offset);
+        int length = (int) readVarLong(new DataInputStream(source));
+        int headerLength = bytes.length - offset - source.available();
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset + headerLength, bytes.length - offset - headerLength);
+            byte[] raw = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("압축 데이터가 잘렸습니다.");
+                }
+                read += n;
+            }
+            return raw;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private record RecordSchema(Class<?> type, RecordComponent[] components, Constructor<?> constructor, int fingerprint) {
+
+        static RecordSchema of(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            StringBuilder signature = new StringBuilder(type.getName());
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+                signature.append(';').append(components[i].getName()).append(':').append(components[i].getType().getName());
+            }
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+                constructor.trySetAccessible();
+                return new RecordSchema(type, components, constructor, signature.toString().hashCode());
+            } catch (NoSuchMethodException e) {
+                throw new SerializationException("record 생성자를 찾을 수 없습니다: " + type.getName(), e);
+            }
+        }
+    }
+
+    private static class SchemaMismatchException extends IOException {
+        SchemaMismatchException(String className) {
+            super(className);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.infrastructure.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시별 직렬화 크기를 cache.payload.size{operation=write|read} 분포로 기록한다.
+ * RedisCacheConfiguration 을 캐시마다 두고 이 직렬화기를 각각 감싸 캐시 이름 태그를 붙인다.
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final DistributionSummary writeSize;
+    private final DistributionSummary readSize;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, MeterRegistry registry, String cacheName) {
+        this.delegate = delegate;
+        this.writeSize = payloadSize(registry, cacheName, "write");
+        this.readSize = payloadSize(registry, cacheName, "read");
+    }
+
+    private static DistributionSummary payloadSize(MeterRegistry registry, String cacheName, String operation) {
+        return DistributionSummary.builder("cache.payload.size")
+            .baseUnit("bytes")
+            .tag("cache", cacheName)
+            .tag("operation", operation)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            writeSize.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null) {
+            readSize.record(bytes.length);
+        }
+        return delegate.deserialize(bytes);
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.domain.product.ProductListGenerationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록 캐시 키 = (brandId|all) + 세대 + 나머지 파라미터.
+ * 첫 번째 파라미터는 brandId(null 이면 전체) 여야 한다.
+ */
+@RequiredArgsConstructor
+@Component(CacheConfig.PRODUCT_LIST_KEY_GENERATOR)
+public class ProductListCacheKeyGenerator implements KeyGenerator {
+
+    private final ProductListGenerationRepository productListGenerationRepository;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Long brandId = (Long) params[0];
+        String scope = brandId != null
+            ? brandId + ":g" + productListGenerationRepository.getBrandGeneration(brandId)
+            : "all:g" + productListGenerationRepository.getGlobalGeneration();
+        String rest = Arrays.stream(params, 1, params.length)
+            .map(String::valueOf)
+            .collect(Collectors.joining("_"));
+        return scope + "_" + rest;
+    }
+}
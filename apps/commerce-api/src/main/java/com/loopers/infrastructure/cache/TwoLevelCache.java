@@ -0,0 +1,381 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.support.cache.MultiGetCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * L1(노드 로컬 Caffeine) + L2(Redis) 2단 캐시.
+ * 조회는 L1 → L2 순서로 하고, L2 에서 찾은 값은 L1 에 채워 넣는다.
+ * evict/clear 는 L2 를 지운 뒤 Pub/Sub 으로 다른 노드의 L1 까지 무효화한다.
+ *
+ * get(key, loader) 경로(@Cacheable(sync = true))에서는
+ * - 같은 키의 로더는 노드당 하나만 실행하고, 나머지 요청은 그 결과를 기다린다. (single-flight)
+ * - L2 만료가 가까워지면 확률적으로(XFetch) 백그라운드 갱신을 시작해, 핫 키가 만료되기 전에 다시 채운다.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache, MultiGetCache {
+
+    private static final long REFRESH_DEADLINE_MAXIMUM_SIZE = 10_000;
+    // 이 노드에서 아직 로드한 적이 없을 때 사용하는 로드 시간 추정치
+    private static final long DEFAULT_LOAD_NANOS = Duration.ofMillis(50).toNanos();
+
+    private final String name;
+    private final Cache remoteCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final InvalidationPublisher invalidationPublisher;
+    private final EarlyRefreshPolicy earlyRefreshPolicy;
+    private final TwoLevelCacheMetrics metrics;
+    private final RemoteMultiGetter remoteMultiGetter;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    // L2 만료 시각(System.nanoTime 기준). 조기 갱신 판단에만 쓰이므로 유실되면 L2 TTL 을 다시 조회한다.
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> remoteDeadlines;
+    // evict/clear 마다 증가한다. 갱신 도중 무효화된 값을 다시 써넣지 않기 위해 사용한다.
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+    private volatile long averageLoadNanos;
+
+    public TwoLevelCache(
+        String name,
+        Cache remoteCache,
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+        InvalidationPublisher invalidationPublisher,
+        EarlyRefreshPolicy earlyRefreshPolicy,
+        TwoLevelCacheMetrics metrics,
+        RemoteMultiGetter remoteMultiGetter
+    ) {
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.localCache = localCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.earlyRefreshPolicy = earlyRefreshPolicy;
+        this.metrics = metrics;
+        this.remoteMultiGetter = remoteMultiGetter != null ? remoteMultiGetter : this::getAllFromRemoteOneByOne;
+        this.remoteDeadlines = earlyRefreshPolicy == null ? null : Caffeine.newBuilder()
+            .maximumSize(REFRESH_DEADLINE_MAXIMUM_SIZE)
+            .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            metrics.localHit();
+            return new SimpleValueWrapper(local);
+        }
+
+        ValueWrapper remote = remoteCache.get(key);
+        if (remote != null && remote.get() != null) {
+            metrics.remoteHit();
+            localCache.put(localKey, remote.get());
+            return remote;
+        }
+        metrics.miss();
+        return null;
+    }
+
+    // L1 에서 찾고, 남은 키만 L2 에서 한 번에 조회한다. L2 에서 찾은 값은 L1 에 채운다.
+    @Override
+    public Map<String, Object> getAll(Collection<?> keys) {
+        Map<String, Object> found = new HashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        for (Object key : keys) {
+            String localKey = toLocalKey(key);
+            Object local = localCache.getIfPresent(localKey);
+            if (local != null) {
+                metrics.localHit();
+                found.put(localKey, local);
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return found;
+        }
+
+        Map<String, Object> remote = remoteMultiGetter.getAll(name, remoteKeys);
+        for (Object key : remoteKeys) {
+            String localKey = toLocalKey(key);
+            Object value = remote.get(localKey);
+            if (value != null) {
+                metrics.remoteHit();
+                localCache.put(localKey, value);
+                found.put(localKey, value);
+            } else {
+                metrics.miss();
+            }
+        }
+        return found;
+    }
+
+    private Map<String, Object> getAllFromRemoteOneByOne(String cacheName, List<Object> keys) {
+        Map<String, Object> result = new HashMap<>();
+        for (Object key : keys) {
+            ValueWrapper wrapper = remoteCache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                result.put(toLocalKey(key), wrapper.get());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            refreshEarlyIfNeeded(key, localKey, wrapper.get(), valueLoader);
+            return (T) wrapper.get();
+        }
+        return (T) loadOnce(key, localKey, valueLoader);
+    }
+
+    private Object loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            // 선행 로더가 끝난 직후 들어온 요청이면 그 로더가 L1 에 이미 채워 두었다.
+            // 호출 측 get 에서 miss 로 집계했으므로, 여기서는 지표를 남기지 않고 L2 도 다시 조회하지 않는다.
+            Object local = localCache.getIfPresent(localKey);
+            Object value = local != null ? local : loadAndPut(key, valueLoader, invalidationEpoch.get());
+            load.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(localKey, load);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader, long epoch) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            metrics.loaded(System.nanoTime() - start, false);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long elapsed = System.nanoTime() - start;
+        metrics.loaded(elapsed, true);
+        recordLoadTime(elapsed);
+        if (epoch == invalidationEpoch.get()) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    // XFetch: 남은 시간 - (로드 시간 × beta × -ln(U)) 가 0 이하가 되면 갱신한다.
+    // 로드가 오래 걸릴수록, 만료가 가까울수록 먼저 갱신될 확률이 높아진다.
+    private void refreshEarlyIfNeeded(Object key, String localKey, Object currentValue, Callable<?> valueLoader) {
+        if (earlyRefreshPolicy == null || inFlightLoads.containsKey(localKey)) {
+            return;
+        }
+        Long deadline = remoteDeadlines.get(localKey, k -> readRemoteDeadline(key));
+        if (deadline == null || deadline == Long.MAX_VALUE) {
+            return;
+        }
+        long loadNanos = averageLoadNanos == 0 ? DEFAULT_LOAD_NANOS : averageLoadNanos;
+        double gap = loadNanos * earlyRefreshPolicy.beta() * -Math.log(ThreadLocalRandom.current().nextDouble());
+        if (deadline - System.nanoTime() - gap > 0) {
+            return;
+        }
+
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(localKey, refresh) != null) {
+            return;
+        }
+        long epoch = invalidationEpoch.get();
+        try {
+            earlyRefreshPolicy.executor().execute(() -> {
+                try {
+                    refresh.complete(loadAndPut(key, valueLoader, epoch));
+                } catch (RuntimeException e) {
+                    log.warn("캐시 조기 갱신 실패: cache={}, key={}, error={}", name, localKey, e.getMessage());
+                    refresh.completeExceptionally(e);
+                } finally {
+                    inFlightLoads.remove(localKey, refresh);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 스레드가 포화 상태면 이번 기회는 건너뛴다. 만료 후에는 single-flight 로 채워진다.
+            inFlightLoads.remove(localKey, refresh);
+            refresh.complete(currentValue);
+        }
+    }
+
+    private Long readRemoteDeadline(Object key) {
+        Duration remaining = earlyRefreshPolicy.remoteTtlReader().remainingTtl(name, key);
+        if (remaining == null) {
+            return Long.MAX_VALUE;
+        }
+        return System.nanoTime() + remaining.toNanos();
+    }
+
+    private void recordLoadTime(long nanos) {
+        long average = averageLoadNanos;
+        averageLoadNanos = average == 0 ? nanos : (average * 7 + nanos) / 8;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        String localKey = toLocalKey(key);
+        metrics.put();
+        remoteCache.put(key, value);
+        localCache.put(localKey, value);
+        if (remoteDeadlines != null) {
+            remoteDeadlines.invalidate(localKey);
+        }
+    }
+
+    @Override
+    public long invalidationEpoch() {
+        return invalidationEpoch.get();
+    }
+
+    // 읽는 사이 무효화된 값을 되살리지 않도록, loadAndPut 과 같은 세대 검사를 거친다.
+    @Override
+    public boolean putAll(Map<?, ?> values, long epoch) {
+        if (epoch != invalidationEpoch.get()) {
+            return false;
+        }
+        values.forEach(this::put);
+        return true;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        invalidationEpoch.incrementAndGet();
+        metrics.evict();
+        remoteCache.evict(key);
+        invalidateLocal(localKey);
+        invalidationPublisher.publish(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        invalidationEpoch.incrementAndGet();
+        remoteCache.clear();
+        invalidateLocalAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    // 다른 노드에서 전파된 무효화 메시지 처리 (L2 는 이미 지워진 상태)
+    void evictLocal(String localKey) {
+        invalidationEpoch.incrementAndGet();
+        invalidateLocal(localKey);
+    }
+
+    void clearLocal() {
+        invalidationEpoch.incrementAndGet();
+        invalidateLocalAll();
+    }
+
+    private void invalidateLocal(String localKey) {
+        localCache.invalidate(localKey);
+        if (remoteDeadlines != null) {
+            remoteDeadlines.invalidate(localKey);
+        }
+    }
+
+    private void invalidateLocalAll() {
+        localCache.invalidateAll();
+        if (remoteDeadlines != null) {
+            remoteDeadlines.invalidateAll();
+        }
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    @FunctionalInterface
+    public interface InvalidationPublisher {
+        /**
+         * key 가 null 이면 캐시 전체 무효화를 의미한다.
+         */
+        void publish(String cacheName, String key);
+    }
+
+    @FunctionalInterface
+    public interface RemoteTtlReader {
+        /**
+         * L2 엔트리의 남은 TTL. 없거나 만료가 없는 키면 null 을 반환한다.
+         */
+        Duration remainingTtl(String cacheName, Object key);
+    }
+
+    /**
+     * @param beta            XFetch 가중치. 1.0 이 기본이며, 클수록 더 일찍 갱신한다.
+     * @param executor        백그라운드 갱신 실행기 (큐가 가득 차면 갱신을 건너뛴다)
+     * @param remoteTtlReader L2 에서 채운 값의 남은 TTL 조회
+     */
+    public record EarlyRefreshPolicy(double beta, Executor executor, RemoteTtlReader remoteTtlReader) {}
+
+    @FunctionalInterface
+    public interface RemoteMultiGetter {
+        /**
+         * L2 에 있는 키의 값만 담아 반환한다. 반환 맵의 키는 String.valueOf(key) 이다.
+         */
+        Map<String, Object> getAll(String cacheName, List<Object> keys);
+    }
+}
@@ -0,0 +1,208 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RedisCacheManager 의 캐시마다 노드 로컬 L1 을 씌운 {@link TwoLevelCache} 를 제공한다.
+ * 무효화 메시지는 "op:cacheName:nodeId:key" 형식으로 {@link #INVALIDATION_CHANNEL} 에 발행된다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, DisposableBean {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+    // RedisCache 기본 키 prefix (CacheKeyPrefix.simple)
+    private static final String REDIS_KEY_SEPARATOR = "::";
+    private static final double EARLY_REFRESH_BETA = 1.0;
+    private static final int REFRESH_THREADS = 4;
+    private static final int REFRESH_QUEUE_CAPACITY = 256;
+
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, LocalCacheSpec> localCacheSpecs;
+    private final LocalCacheSpec defaultLocalCacheSpec;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = newRefreshExecutor();
+
+    public TwoLevelCacheManager(
+        RedisCacheManager redisCacheManager,
+        Map<String, LocalCacheSpec> localCacheSpecs,
+        LocalCacheSpec defaultLocalCacheSpec,
+        RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.localCacheSpecs = localCacheSpecs;
+        this.defaultLocalCacheSpec = defaultLocalCacheSpec;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remoteCache = redisCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        LocalCacheSpec spec = localCacheSpecs.getOrDefault(name, defaultLocalCacheSpec);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+            .maximumWeight(spec.maximumWeight())
+            .<String, Object>weigher(TwoLevelCacheManager::weigh)
+            .expireAfterWrite(spec.ttl())
+            .build();
+        Gauge.builder("cache.local.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+            .tag("cache", name)
+            .register(meterRegistry);
+        TwoLevelCache.EarlyRefreshPolicy earlyRefreshPolicy =
+            new TwoLevelCache.EarlyRefreshPolicy(EARLY_REFRESH_BETA, refreshExecutor, this::remainingTtl);
+        TwoLevelCache.RemoteMultiGetter remoteMultiGetter = remoteCache instanceof RedisCache redisCache
+            ? (cacheName, keys) -> multiGet(redisCache, keys)
+            : null;
+        return new TwoLevelCache(name, remoteCache, localCache, this::publishInvalidation, earlyRefreshPolicy,
+            new TwoLevelCacheMetrics(meterRegistry, name), remoteMultiGetter);
+    }
+
+    // RedisCache 에는 다건 조회가 없어, 같은 키 형식과 값 직렬화기로 MGET 한 번에 읽는다.
+    private Map<String, Object> multiGet(RedisCache redisCache, List<Object> keys) {
+        String prefix = redisCache.getName() + REDIS_KEY_SEPARATOR;
+        byte[][] rawKeys = keys.stream()
+            .map(key -> (prefix + key).getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+        List<byte[]> rawValues = redisTemplate.execute(
+            (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys)
+        );
+
+        Map<String, Object> result = new HashMap<>();
+        if (rawValues == null) {
+            return result;
+        }
+        RedisSerializationContext.SerializationPair<Object> valuePair =
+            redisCache.getCacheConfiguration().getValueSerializationPair();
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] raw = rawValues.get(i);
+            if (raw == null) {
+                continue;
+            }
+            Object value = valuePair.read(ByteBuffer.wrap(raw));
+            if (value != null) {
+                result.put(String.valueOf(keys.get(i)), value);
+            }
+        }
+        return result;
+    }
+
+    private Duration remainingTtl(String cacheName, Object key) {
+        try {
+            Long millis = redisTemplate.getExpire(cacheName + REDIS_KEY_SEPARATOR + key, TimeUnit.MILLISECONDS);
+            return millis == null || millis < 0 ? null : Duration.ofMillis(millis);
+        } catch (Exception e) {
+            log.warn("캐시 TTL 조회 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    // 갱신은 요청 스레드를 막지 않도록 별도 스레드에서 하고, 큐가 가득 차면 버린다.
+    private static ExecutorService newRefreshExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            REFRESH_THREADS, REFRESH_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // 목록 캐시는 항목 수만큼 가중치를 주어, 엔트리 수가 아니라 담고 있는 상품 수 기준으로 L1 크기를 제한한다.
+    private static int weigh(String key, Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        String message = key == null
+            ? String.join(":", OP_CLEAR, cacheName, nodeId)
+            : String.join(":", OP_EVICT, cacheName, nodeId, key);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1 은 TTL 만료로 정리된다.
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 4);
+        if (parts.length < 3 || nodeId.equals(parts[2])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (OP_CLEAR.equals(parts[0])) {
+            cache.clearLocal();
+        } else if (OP_EVICT.equals(parts[0]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    /**
+     * @param ttl           L1 보관 시간 (L2 TTL 보다 짧게 둔다)
+     * @param maximumWeight L1 최대 가중치 (캐시된 상품 수 기준)
+     */
+    public record LocalCacheSpec(Duration ttl, long maximumWeight) {}
+}
@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 하나에 대한 Micrometer 지표. 이름은 Spring Boot 캐시 지표(cache.gets, cache.puts, cache.evictions)를 따르고
+ * 어느 계층에서 찾았는지 level 태그(local/remote)로 구분한다.
+ * - cache.gets{result=hit, level=local|remote} / cache.gets{result=miss}
+ * - cache.load{result=success|failure}: 미스 시 @Cacheable 메서드(로더) 실행 시간
+ */
+public class TwoLevelCacheMetrics {
+
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evictions;
+    private final Timer loadSuccess;
+    private final Timer loadFailure;
+
+    public TwoLevelCacheMetrics(MeterRegistry registry, String cacheName) {
+        this.localHits = gets(registry, cacheName, "hit", "local");
+        this.remoteHits = gets(registry, cacheName, "hit", "remote");
+        this.misses = gets(registry, cacheName, "miss", "none");
+        this.puts = Counter.builder("cache.puts").tag("cache", cacheName).register(registry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", cacheName).register(registry);
+        this.loadSuccess = load(registry, cacheName, "success");
+        this.loadFailure = load(registry, cacheName, "failure");
+    }
+
+    private static Counter gets(MeterRegistry registry, String cacheName, String result, String level) {
+        return Counter.builder("cache.gets")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .tag("level", level)
+            .register(registry);
+    }
+
+    private static Timer load(MeterRegistry registry, String cacheName, String result) {
+        return Timer.builder("cache.load")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void remoteHit() {
+        remoteHits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void put() {
+        puts.increment();
+    }
+
+    void evict() {
+        evictions.increment();
+    }
+
+    void loaded(long nanos, boolean success) {
+        (success ? loadSuccess : loadFailure).record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,132 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikedProductIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요 상품 집합을 Redis Set(like:user:{userId}:products)에 둔다.
+ * 상품 ID 는 1 부터 시작하므로 "0" 을 적재 완료 표시로 함께 넣는다. 표시가 없으면 일부만 담긴 집합이라 믿지 않는다.
+ * 여러 상품의 포함 여부는 SMISMEMBER 한 번으로 확인한다.
+ * 방금 누른 좋아요가 복제 지연으로 빠져 보이지 않도록 마스터 연결을 사용한다.
+ * TTL 은 적재할 때만 SADD 와 함께 설정하고 좋아요마다 연장하지 않는다.
+ * 그래서 적재와 좋아요 취소가 겹쳐 어긋난 집합도 적재 후 TTL 이 지나면 반드시 다시 적재된다.
+ */
+@Slf4j
+@Component
+public class LikedProductIndexImpl implements LikedProductIndex {
+
+    private static final String KEY_PREFIX = "like:user:";
+    private static final String KEY_SUFFIX = ":products";
+    private static final String LOADED_MARKER = "0";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    // 적재 표시와 상품 ID 를 넣고 TTL 을 설정하는 것을 한 번에 실행해, TTL 없는 키가 남지 않게 한다.
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+        """
+        for i = 2, #ARGV do
+            redis.call('SADD', KEYS[1], ARGV[i])
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+        return #ARGV - 1
+        """,
+        Long.class
+    );
+
+    // 적재된 집합에만 더한다. 없는 키에 SADD 하면 TTL 없는 키가 생긴다.
+    private static final RedisScript<Long> ADD_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('SADD', KEYS[1], ARGV[1])
+        end
+        return 0
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public LikedProductIndexImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // 조회 실패는 적재되지 않은 것으로 취급해, 호출자가 DB 로 확인하게 한다.
+    @Override
+    public Optional<Set<Long>> findLiked(Long userId, List<Long> productIds) {
+        Object[] members = new Object[productIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < productIds.size(); i++) {
+            members[i + 1] = productIds.get(i).toString();
+        }
+        Map<Object, Boolean> result;
+        try {
+            result = redisTemplate.opsForSet().isMember(key(userId), members);
+        } catch (Exception e) {
+            log.warn("좋아요 상품 집합 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+        if (result == null || !Boolean.TRUE.equals(result.get(LOADED_MARKER))) {
+            return Optional.empty();
+        }
+        Set<Long> liked = new HashSet<>();
+        for (Long productId : productIds) {
+            if (Boolean.TRUE.equals(result.get(productId.toString()))) {
+                liked.add(productId);
+            }
+        }
+        return Optional.of(liked);
+    }
+
+    @Override
+    public void load(Long userId, Collection<Long> likedProductIds) {
+        Object[] args = new Object[likedProductIds.size() + 2];
+        args[0] = String.valueOf(TTL.toSeconds());
+        args[1] = LOADED_MARKER;
+        int i = 2;
+        for (Long productId : likedProductIds) {
+            args[i++] = productId.toString();
+        }
+        try {
+            redisTemplate.execute(LOAD_SCRIPT, List.of(key(userId)), args);
+        } catch (Exception e) {
+            log.warn("좋아요 상품 집합 적재 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    // 적재되지 않은 사용자는 건너뛴다. 다음 조회에서 DB 로 적재할 때 이미 커밋된 좋아요가 포함된다.
+    @Override
+    public void add(Long userId, Long productId) {
+        redisTemplate.execute(ADD_IF_LOADED_SCRIPT, List.of(key(userId)), productId.toString());
+    }
+
+    @Override
+    public void remove(Long userId, Long productId) {
+        redisTemplate.opsForSet().remove(key(userId), productId.toString());
+    }
+
+    @Override
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (Exception e) {
+            log.warn("좋아요 상품 집합 삭제 실패, TTL 만료에 맡김: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId + KEY_SUFFIX;
+    }
+}
@@ -1,14 +1,27 @@
 package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.ProductLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ProductLikeJpaRepository extends JpaRepository<ProductLike, Long> {
     Optional<ProductLike> findByUserIdAndProductId(Long userId, Long productId);
-    void deleteByUserIdAndProductId(Long userId, Long productId);
+    long deleteByUserIdAndProductId(Long userId, Long productId);
     long countByProductId(Long productId);
-    List<ProductLike> findAllByUserId(Long userId);
+    List<ProductLike> findAllByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+    List<ProductLike> findAllByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long id, Pageable pageable);
+
+    @Query("SELECT pl.productId, COUNT(pl) FROM ProductLike pl WHERE pl.productId IN :productIds GROUP BY pl.productId")
+    List<Object[]> countGroupByProductId(@Param("productIds") List<Long> productIds);
+
+    @Query("SELECT pl.productId FROM ProductLike pl WHERE pl.userId = :userId AND pl.productId IN :productIds")
+    List<Long> findLikedProductIds(@Param("userId") Long userId, @Param("productIds") List<Long> productIds);
+
+    @Query("SELECT pl.productId FROM ProductLike pl WHERE pl.userId = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
 }
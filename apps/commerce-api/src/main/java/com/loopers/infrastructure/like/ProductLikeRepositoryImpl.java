@@ -3,9 +3,12 @@ package com.loopers.infrastructure.like;
 import com.loopers.domain.like.ProductLike;
 import com.loopers.domain.like.ProductLikeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -25,8 +28,8 @@ public class ProductLikeRepositoryImpl implements ProductLikeRepository {
     }
 
     @Override
-    public void deleteByUserIdAndProductId(Long userId, Long productId) {
-        productLikeJpaRepository.deleteByUserIdAndProductId(userId, productId);
+    public long deleteByUserIdAndProductId(Long userId, Long productId) {
+        return productLikeJpaRepository.deleteByUserIdAndProductId(userId, productId);
     }
 
     @Override
@@ -35,7 +38,29 @@ public class ProductLikeRepositoryImpl implements ProductLikeRepository {
     }
 
     @Override
-    public List<ProductLike> findAllByUserId(Long userId) {
-        return productLikeJpaRepository.findAllByUserId(userId);
+    public Map<Long, Long> countByProductIds(List<Long> productIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : productLikeJpaRepository.countGroupByProductId(productIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    public List<ProductLike> findPageByUserId(Long userId, Long lastId, int size) {
+        if (lastId == null) {
+            return productLikeJpaRepository.findAllByUserIdOrderByIdDesc(userId, PageRequest.of(0, size));
+        }
+        return productLikeJpaRepository.findAllByUserIdAndIdLessThanOrderByIdDesc(userId, lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<Long> findLikedProductIds(Long userId, List<Long> productIds) {
+        return productLikeJpaRepository.findLikedProductIds(userId, productIds);
+    }
+
+    @Override
+    public List<Long> findProductIdsByUserId(Long userId) {
+        return productLikeJpaRepository.findProductIdsByUserId(userId);
     }
 }
@@ -0,0 +1,50 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.HotProductRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 상품 표시를 상품별 Redis 키(TTL)로 둔다. 임계치를 넘을 때마다 TTL 이 연장된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class HotProductRegistryImpl implements HotProductRegistry {
+
+    private static final String KEY_PREFIX = "product:like-hot:";
+    private static final Duration HOT_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Set<Long> findHot(Collection<Long> productIds) {
+        Set<Long> hot = new HashSet<>();
+        if (productIds.isEmpty()) {
+            return hot;
+        }
+        List<Long> ids = new ArrayList<>(productIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(id -> KEY_PREFIX + id).toList());
+        if (values == null) {
+            return hot;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                hot.add(ids.get(i));
+            }
+        }
+        return hot;
+    }
+
+    @Override
+    public void markHot(Long productId) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + productId, "1", HOT_TTL);
+    }
+}
@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductChangeBroadcaster;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 상품 변경 알림을 "nodeId:productId,productId,..." 형식으로 Redis Pub/Sub 에 발행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductChangeBroadcasterImpl implements ProductChangeBroadcaster, MessageListener {
+
+    private static final String CHANNEL = "product:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<List<Long>>> listeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void broadcast(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        String ids = String.join(",", productIds.stream().map(String::valueOf).toList());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + ids);
+        } catch (Exception e) {
+            log.warn("상품 변경 알림 발행 실패: productCount={}, error={}", productIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<Long>> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 2);
+        if (parts.length != 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        List<Long> productIds = Arrays.stream(parts[1].split(",")).map(Long::parseLong).toList();
+        for (Consumer<List<Long>> listener : listeners) {
+            try {
+                listener.accept(productIds);
+            } catch (Exception e) {
+                log.warn("상품 변경 알림 처리 실패: productCount={}, error={}", productIds.size(), e.getMessage());
+            }
+        }
+    }
+}
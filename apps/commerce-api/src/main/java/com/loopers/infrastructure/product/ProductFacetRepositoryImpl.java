@@ -0,0 +1,186 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.PriceBucket;
+import com.loopers.domain.product.ProductFacetCount;
+import com.loopers.domain.product.ProductFacetRepository;
+import com.loopers.domain.product.ProductFacets;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 패싯 카운터를 Redis Hash 로 관리한다.
+ * - product:facets:brands             : brandId -> 상품 수
+ * - product:facets:prices             : 가격 구간 -> 상품 수
+ * - product:facets:brand:{id}:prices  : 브랜드 안의 가격 구간 -> 상품 수
+ * 조회는 HGETALL 두 번이며, 요청마다 GROUP BY 를 실행하지 않는다.
+ * 카운터를 읽고 바로 고쳐 쓰는 경로가 있어, 복제 지연이 없는 마스터 연결을 사용한다.
+ */
+@Component
+public class ProductFacetRepositoryImpl implements ProductFacetRepository {
+
+    private static final String KEY_PREFIX = "product:facets:";
+    private static final String BRANDS_KEY = KEY_PREFIX + "brands";
+    private static final String PRICES_KEY = KEY_PREFIX + "prices";
+    private static final String BRAND_PRICES_KEY_PREFIX = KEY_PREFIX + "brand:";
+    private static final String BRAND_PRICES_KEY_SUFFIX = ":prices";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final Duration REBUILD_TTL = Duration.ofHours(1);
+
+    // 브랜드 안의 구간별 수를 읽어 전체 구간 카운터에서 빼고 브랜드 카운터를 지우는 것까지 한 번에 실행한다.
+    // 읽은 뒤 빼기 전에 끼어든 증감이 있어도 빼는 값과 지우는 값이 어긋나지 않는다.
+    private static final RedisScript<Long> REMOVE_BRAND_SCRIPT = new DefaultRedisScript<>(
+        """
+        local prices = redis.call('HGETALL', KEYS[1])
+        for i = 1, #prices, 2 do
+            redis.call('HINCRBY', KEYS[2], prices[i], -tonumber(prices[i + 1]))
+        end
+        redis.call('HDEL', KEYS[3], ARGV[1])
+        redis.call('DEL', KEYS[1])
+        return #prices / 2
+        """,
+        Long.class
+    );
+
+    // 브랜드별/전체 임시 키를 RENAME 으로 교체하고, 사라진 브랜드의 구간 카운터를 지우는 것까지 한 번에 실행한다.
+    // 조회 중인 요청이 새 가격 구간 카운터와 이전 브랜드 카운터를 섞어 보지 않는다.
+    // 적재한 것이 있는데 임시 키가 없으면(만료 등) 조회 중인 카운터는 그대로 둔다.
+    private static final RedisScript<Long> REPLACE_ALL_SCRIPT = new DefaultRedisScript<>(
+        """
+        local staged = redis.call('HKEYS', KEYS[3])
+        if #staged == 0 and ARGV[4] ~= '0' then
+            return -1
+        end
+        local stagedBrands = {}
+        for _, brandId in ipairs(staged) do
+            stagedBrands[brandId] = true
+            local liveKey = ARGV[1] .. brandId .. ARGV[2]
+            if redis.call('EXISTS', liveKey .. ARGV[3]) == 1 then
+                redis.call('RENAME', liveKey .. ARGV[3], liveKey)
+                redis.call('PERSIST', liveKey)
+            end
+        end
+        for _, brandId in ipairs(redis.call('HKEYS', KEYS[1])) do
+            if not stagedBrands[brandId] then
+                redis.call('DEL', ARGV[1] .. brandId .. ARGV[2])
+            end
+        end
+        if #staged == 0 then
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 0
+        end
+        redis.call('RENAME', KEYS[4], KEYS[2])
+        redis.call('PERSIST', KEYS[2])
+        redis.call('RENAME', KEYS[3], KEYS[1])
+        redis.call('PERSIST', KEYS[1])
+        return #staged
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ProductFacetRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void increase(Long brandId, int price, long delta) {
+        byte[] bucket = bytes(PriceBucket.of(price).name());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hIncrBy(bytes(BRANDS_KEY), bytes(brandId.toString()), delta);
+            connection.hashCommands().hIncrBy(bytes(PRICES_KEY), bucket, delta);
+            connection.hashCommands().hIncrBy(bytes(brandPricesKey(brandId)), bucket, delta);
+            return null;
+        });
+    }
+
+    @Override
+    public ProductFacets findFacets(Long brandId) {
+        Map<Long, Long> brandCounts = new HashMap<>();
+        Map<Object, Object> brands = redisTemplate.opsForHash().entries(BRANDS_KEY);
+        brands.forEach((field, value) -> {
+            long count = Long.parseLong(value.toString());
+            if (count > 0) {
+                brandCounts.put(Long.parseLong(field.toString()), count);
+            }
+        });
+
+        Map<PriceBucket, Long> priceBucketCounts = new EnumMap<>(PriceBucket.class);
+        Map<Object, Object> prices = redisTemplate.opsForHash().entries(brandId == null ? PRICES_KEY : brandPricesKey(brandId));
+        prices.forEach((field, value) -> {
+            long count = Long.parseLong(value.toString());
+            if (count > 0) {
+                priceBucketCounts.put(PriceBucket.valueOf(field.toString()), count);
+            }
+        });
+        return new ProductFacets(brandCounts, priceBucketCounts);
+    }
+
+    // 전체 수는 가격 구간 카운터(구간 수만큼의 필드)를 합해 구하므로 따로 관리하는 키가 없다.
+    @Override
+    public long countProducts(Long brandId) {
+        if (brandId != null) {
+            Object count = redisTemplate.opsForHash().get(BRANDS_KEY, brandId.toString());
+            return count == null ? 0L : Math.max(Long.parseLong(count.toString()), 0L);
+        }
+        List<Object> counts = redisTemplate.opsForHash().values(PRICES_KEY);
+        return counts.stream().mapToLong(count -> Math.max(Long.parseLong(count.toString()), 0L)).sum();
+    }
+
+    // 브랜드 안의 구간별 수만큼 전체 구간 카운터에서 빼고, 브랜드 카운터를 지운다.
+    @Override
+    public void removeBrand(Long brandId) {
+        redisTemplate.execute(REMOVE_BRAND_SCRIPT, List.of(brandPricesKey(brandId), PRICES_KEY, BRANDS_KEY), brandId.toString());
+    }
+
+    // 임시 키에 새 값을 적재한 뒤 스크립트 한 번으로 교체한다. 조회 중인 요청은 이전 값이나 새 값 중 하나만 본다.
+    @Override
+    public void replaceAll(List<ProductFacetCount> counts) {
+        String suffix = REBUILD_SUFFIX + UUID.randomUUID();
+        long ttlSeconds = REBUILD_TTL.toSeconds();
+        long staged = counts.stream().filter(count -> count.count() > 0).count();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ProductFacetCount count : counts) {
+                if (count.count() <= 0) {
+                    continue;
+                }
+                byte[] bucket = bytes(count.priceBucket().name());
+                byte[] brandPricesKey = bytes(brandPricesKey(count.brandId()) + suffix);
+                connection.hashCommands().hIncrBy(bytes(BRANDS_KEY + suffix), bytes(count.brandId().toString()), count.count());
+                connection.hashCommands().hIncrBy(bytes(PRICES_KEY + suffix), bucket, count.count());
+                connection.hashCommands().hIncrBy(brandPricesKey, bucket, count.count());
+                connection.keyCommands().expire(brandPricesKey, ttlSeconds);
+            }
+            connection.keyCommands().expire(bytes(BRANDS_KEY + suffix), ttlSeconds);
+            connection.keyCommands().expire(bytes(PRICES_KEY + suffix), ttlSeconds);
+            return null;
+        });
+
+        redisTemplate.execute(
+            REPLACE_ALL_SCRIPT,
+            List.of(BRANDS_KEY, PRICES_KEY, BRANDS_KEY + suffix, PRICES_KEY + suffix),
+            BRAND_PRICES_KEY_PREFIX, BRAND_PRICES_KEY_SUFFIX, suffix, String.valueOf(staged)
+        );
+    }
+
+    private static String brandPricesKey(Long brandId) {
+        return BRAND_PRICES_KEY_PREFIX + brandId + BRAND_PRICES_KEY_SUFFIX;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
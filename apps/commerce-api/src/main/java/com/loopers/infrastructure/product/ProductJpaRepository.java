@@ -6,9 +6,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,28 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
     Page<Product> findAllByDeletedAtIsNull(Pageable pageable);
     Page<Product> findAllByBrandIdAndDeletedAtIsNull(Long brandId, Pageable pageable);
 
+    List<Product> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<Product> findAllByIdInAndDeletedAtIsNull(List<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.likeCount = :actual WHERE p.id = :id AND p.likeCount = :expected")
+    int updateLikeCount(@Param("id") Long id, @Param("expected") long expected, @Param("actual") long actual);
+
+    @Query("SELECT p.id FROM Product p WHERE p.brandId = :brandId AND p.id > :lastId AND p.deletedAt IS NULL ORDER BY p.id ASC")
+    List<Long> findActiveIdsByBrandIdAfter(@Param("brandId") Long brandId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 벌크 UPDATE 는 @PreUpdate 를 거치지 않으므로 updatedAt 도 직접 갱신한다. 청크마다 별도 트랜잭션으로 커밋된다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.deletedAt = :now, p.updatedAt = :now "
+        + "WHERE p.brandId = :brandId AND p.id > :fromId AND p.id <= :toId AND p.deletedAt IS NULL")
+    int softDeleteByBrandIdInIdRange(
+        @Param("brandId") Long brandId,
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId,
+        @Param("now") ZonedDateTime now
+    );
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdForUpdate(@Param("id") Long id);
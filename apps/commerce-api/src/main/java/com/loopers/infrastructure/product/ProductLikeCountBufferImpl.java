@@ -0,0 +1,131 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.LikeCountBatch;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 좋아요 수 증감을 Redis Hash 에 HINCRBY 로 모은다. 노드 메모리가 아니라 Redis 에 두므로 노드가 내려가도 남는다.
+ * - product:like-delta:pending      : 쌓이는 중인 증감 (productId -> delta)
+ * - product:like-delta:batch:{id}   : 반영 중인 배치. pending 을 RENAME 해 만든다.
+ * - product:like-delta:batches      : 반영 중인 배치 목록 (ZSET, score = 떼어낸 시각)
+ * 떼어낸 직후 배치를 읽어야 하므로 복제 지연이 없는 마스터 연결을 사용한다.
+ */
+@Component
+public class ProductLikeCountBufferImpl implements ProductLikeCountBuffer {
+
+    private static final String KEY_PREFIX = "product:like-delta:";
+    private static final String PENDING_KEY = KEY_PREFIX + "pending";
+    private static final String BATCH_KEY_PREFIX = KEY_PREFIX + "batch:";
+    private static final String BATCHES_KEY = KEY_PREFIX + "batches";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ProductLikeCountBufferImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void add(Long productId, long delta) {
+        redisTemplate.opsForHash().increment(PENDING_KEY, productId.toString(), delta);
+    }
+
+    @Override
+    public long getPending(Long productId) {
+        Object delta = redisTemplate.opsForHash().get(PENDING_KEY, productId.toString());
+        return delta == null ? 0L : Long.parseLong(delta.toString());
+    }
+
+    // pending → 배치 목록 → 배치 순서로 읽는다. drain 은 배치 목록에 먼저 등록한 뒤 RENAME 하므로,
+    // 읽는 도중에 떼어가도 pending 이나 배치 중 한쪽에서는 반드시 보인다.
+    @Override
+    public Set<Long> findUnappliedProductIds(List<Long> productIds) {
+        Set<Long> unapplied = new HashSet<>();
+        if (productIds.isEmpty()) {
+            return unapplied;
+        }
+        List<Object> fields = productIds.stream().map(id -> (Object) id.toString()).toList();
+        collectNonZero(redisTemplate.opsForHash().multiGet(PENDING_KEY, fields), productIds, unapplied);
+        Set<String> batchIds = redisTemplate.opsForZSet().range(BATCHES_KEY, 0, -1);
+        if (batchIds != null) {
+            for (String batchId : batchIds) {
+                collectNonZero(redisTemplate.opsForHash().multiGet(BATCH_KEY_PREFIX + batchId, fields), productIds, unapplied);
+            }
+        }
+        return unapplied;
+    }
+
+    // 배치 목록에 먼저 등록한 뒤 RENAME 한다. 그 사이에 노드가 내려가도 배치 키가 목록에서 빠지지 않는다.
+    // RENAME 은 원자적이라, 이후의 HINCRBY 는 새 pending 키에 쌓인다.
+    @Override
+    public LikeCountBatch drain() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+            return null;
+        }
+        String batchId = UUID.randomUUID().toString();
+        redisTemplate.opsForZSet().add(BATCHES_KEY, batchId, System.currentTimeMillis());
+        try {
+            redisTemplate.rename(PENDING_KEY, BATCH_KEY_PREFIX + batchId);
+        } catch (DataAccessException e) {
+            // 다른 노드가 먼저 떼어가 pending 키가 사라진 경우
+            redisTemplate.opsForZSet().remove(BATCHES_KEY, batchId);
+            return null;
+        }
+        return read(batchId);
+    }
+
+    // ZREM 에 성공한 노드만 배치를 가져가고, 시각을 갱신해 다시 등록한다. 가져간 노드도 내려가면 다음 주기에 다시 대상이 된다.
+    @Override
+    public List<LikeCountBatch> claimStaleBatches(Duration olderThan) {
+        long now = System.currentTimeMillis();
+        Set<String> batchIds = redisTemplate.opsForZSet().rangeByScore(BATCHES_KEY, 0, now - olderThan.toMillis());
+        List<LikeCountBatch> claimed = new ArrayList<>();
+        if (batchIds == null) {
+            return claimed;
+        }
+        for (String batchId : batchIds) {
+            Long removed = redisTemplate.opsForZSet().remove(BATCHES_KEY, batchId);
+            if (removed == null || removed == 0) {
+                continue;
+            }
+            redisTemplate.opsForZSet().add(BATCHES_KEY, batchId, now);
+            claimed.add(read(batchId));
+        }
+        return claimed;
+    }
+
+    @Override
+    public void complete(String batchId) {
+        redisTemplate.delete(BATCH_KEY_PREFIX + batchId);
+        redisTemplate.opsForZSet().remove(BATCHES_KEY, batchId);
+    }
+
+    private static void collectNonZero(List<Object> deltas, List<Long> productIds, Set<Long> result) {
+        for (int i = 0; i < productIds.size(); i++) {
+            Object delta = deltas.get(i);
+            if (delta != null && Long.parseLong(delta.toString()) != 0) {
+                result.add(productIds.get(i));
+            }
+        }
+    }
+
+    private LikeCountBatch read(String batchId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(BATCH_KEY_PREFIX + batchId);
+        Map<Long, Long> deltas = new HashMap<>();
+        entries.forEach((productId, delta) -> deltas.put(Long.parseLong(productId.toString()), Long.parseLong(delta.toString())));
+        return new LikeCountBatch(batchId, deltas);
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCountShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductLikeCountShardJpaRepository extends JpaRepository<ProductLikeCountShard, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO product_like_count_shards (product_id, slot, delta) VALUES (:productId, :slot, :delta) "
+        + "ON DUPLICATE KEY UPDATE delta = delta + :delta", nativeQuery = true)
+    int upsertDelta(@Param("productId") Long productId, @Param("slot") int slot, @Param("delta") long delta);
+
+    @Query("SELECT s.productId, SUM(s.delta) FROM ProductLikeCountShard s WHERE s.productId IN :productIds GROUP BY s.productId")
+    List<Object[]> sumByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT DISTINCT s.productId FROM ProductLikeCountShard s")
+    List<Long> findDistinctProductIds();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductLikeCountShard s WHERE s.productId = :productId")
+    List<ProductLikeCountShard> findAllByProductIdForUpdate(@Param("productId") Long productId);
+}
@@ -0,0 +1,49 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCountShard;
+import com.loopers.domain.product.ProductLikeCountShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+public class ProductLikeCountShardRepositoryImpl implements ProductLikeCountShardRepository {
+
+    private final ProductLikeCountShardJpaRepository productLikeCountShardJpaRepository;
+
+    @Override
+    public void add(Long productId, int slot, long delta) {
+        productLikeCountShardJpaRepository.upsertDelta(productId, slot, delta);
+    }
+
+    @Override
+    public Map<Long, Long> sumByProductIds(Collection<Long> productIds) {
+        Map<Long, Long> sums = new HashMap<>();
+        for (Object[] row : productLikeCountShardJpaRepository.sumByProductIds(productIds)) {
+            sums.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return sums;
+    }
+
+    @Override
+    public List<Long> findShardedProductIds() {
+        return productLikeCountShardJpaRepository.findDistinctProductIds();
+    }
+
+    // 상품 ID 로 지우지 않고 잠근 행의 ID 로 지운다. 합산 중 새로 생긴 슬롯 행은 다음 합산 대상으로 남는다.
+    @Override
+    public long takeAll(Long productId) {
+        List<ProductLikeCountShard> shards = productLikeCountShardJpaRepository.findAllByProductIdForUpdate(productId);
+        if (shards.isEmpty()) {
+            return 0L;
+        }
+        long sum = shards.stream().mapToLong(ProductLikeCountShard::getDelta).sum();
+        productLikeCountShardJpaRepository.deleteAllByIdInBatch(shards.stream().map(ProductLikeCountShard::getId).toList());
+        return sum;
+    }
+}
@@ -0,0 +1,194 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeOrderRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 좋아요 순 인덱스를 Redis ZSET (score = 좋아요 수) 으로 관리한다.
+ * 동점은 MySQL 정렬(like_count DESC, id ASC)과 같게 id 오름차순이 되도록 member 를 인코딩한다.
+ * 그래서 커서가 도중에 MySQL seek 로 넘어가도 건너뛰거나 중복되는 행이 없다.
+ * 적재 직후 교체 여부를 판단하므로 복제 지연이 없는 마스터 연결을 사용한다.
+ */
+@Component
+public class ProductLikeOrderRepositoryImpl implements ProductLikeOrderRepository {
+
+    // member 인코딩이 바뀌면 버전을 올린다. 새 키는 첫 재구축 전까지 준비되지 않은 것으로 보고 MySQL 로 정렬한다.
+    private static final String KEY_PREFIX = "product:likes:v2:";
+    private static final String GLOBAL_KEY = KEY_PREFIX + "all";
+    private static final String BRAND_KEY_PREFIX = KEY_PREFIX + "brand:";
+    private static final String READY_KEY = KEY_PREFIX + "ready";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final String REBUILD_BRANDS_KEY_PREFIX = KEY_PREFIX + "rebuild:brands:";
+    private static final Duration REBUILD_TTL = Duration.ofHours(1);
+
+    // 브랜드/전체 임시 키를 RENAME 으로 교체하고 준비 표시까지 한 번에 실행한다.
+    // 임시 키가 없으면(만료 등) 조회 중인 인덱스는 지우지 않고 그대로 둔다.
+    private static final RedisScript<Long> PUBLISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+        """
+        local brandIds = redis.call('SMEMBERS', KEYS[1])
+        for _, brandId in ipairs(brandIds) do
+            local stagingKey = ARGV[1] .. brandId .. ARGV[2]
+            if redis.call('EXISTS', stagingKey) == 1 then
+                redis.call('RENAME', stagingKey, ARGV[1] .. brandId)
+                redis.call('PERSIST', ARGV[1] .. brandId)
+            end
+        end
+        if redis.call('EXISTS', KEYS[2]) == 1 then
+            redis.call('RENAME', KEYS[2], KEYS[3])
+            redis.call('PERSIST', KEYS[3])
+        end
+        redis.call('DEL', KEYS[1])
+        redis.call('SET', KEYS[4], '1')
+        return #brandIds
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ProductLikeOrderRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // 한 번 준비된 것을 확인하면 이후 요청에서는 Redis 에 다시 묻지 않는다.
+    private volatile boolean ready;
+
+    @Override
+    public boolean isReady() {
+        if (!ready) {
+            ready = Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+        }
+        return ready;
+    }
+
+    @Override
+    public List<Long> findProductIds(Long brandId, long offset, int count) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key(brandId), offset, offset + count - 1);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return members.stream().map(ProductLikeOrderRepositoryImpl::productId).toList();
+    }
+
+    @Override
+    public Long findPosition(Long brandId, Long productId) {
+        return redisTemplate.opsForZSet().reverseRank(key(brandId), member(productId));
+    }
+
+    @Override
+    public void add(Long brandId, Long productId) {
+        byte[] member = bytes(member(productId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(bytes(GLOBAL_KEY), 0, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+            connection.zSetCommands().zAdd(bytes(BRAND_KEY_PREFIX + brandId), 0, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+            return null;
+        });
+    }
+
+    @Override
+    public void increase(Long brandId, Long productId, long delta) {
+        byte[] member = bytes(member(productId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zIncrBy(bytes(GLOBAL_KEY), delta, member);
+            connection.zSetCommands().zIncrBy(bytes(BRAND_KEY_PREFIX + brandId), delta, member);
+            return null;
+        });
+    }
+
+    @Override
+    public void put(Long brandId, Long productId, long likeCount) {
+        byte[] member = bytes(member(productId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(bytes(GLOBAL_KEY), likeCount, member, RedisZSetCommands.ZAddArgs.empty());
+            connection.zSetCommands().zAdd(bytes(BRAND_KEY_PREFIX + brandId), likeCount, member, RedisZSetCommands.ZAddArgs.empty());
+            return null;
+        });
+    }
+
+    @Override
+    public void remove(Long brandId, Long productId) {
+        byte[] member = bytes(member(productId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRem(bytes(GLOBAL_KEY), member);
+            connection.zSetCommands().zRem(bytes(BRAND_KEY_PREFIX + brandId), member);
+            return null;
+        });
+    }
+
+    @Override
+    public void removeBrand(Long brandId) {
+        String brandKey = BRAND_KEY_PREFIX + brandId;
+        Set<String> members = redisTemplate.opsForZSet().range(brandKey, 0, -1);
+        if (members != null && !members.isEmpty()) {
+            redisTemplate.opsForZSet().remove(GLOBAL_KEY, members.toArray());
+        }
+        redisTemplate.delete(brandKey);
+    }
+
+    // 노드마다 rebuildId 로 임시 키를 분리하므로, 여러 노드가 동시에 재구축해도 서로의 적재를 섞지 않는다.
+    @Override
+    public void stageRebuild(String rebuildId, List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        String suffix = REBUILD_SUFFIX + rebuildId;
+        byte[] brandsKey = bytes(REBUILD_BRANDS_KEY_PREFIX + rebuildId);
+        long ttlSeconds = REBUILD_TTL.toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Product product : products) {
+                byte[] member = bytes(member(product.getId()));
+                byte[] globalKey = bytes(GLOBAL_KEY + suffix);
+                byte[] brandKey = bytes(BRAND_KEY_PREFIX + product.getBrandId() + suffix);
+                connection.zSetCommands().zAdd(globalKey, product.getLikeCount(), member, RedisZSetCommands.ZAddArgs.empty());
+                connection.zSetCommands().zAdd(brandKey, product.getLikeCount(), member, RedisZSetCommands.ZAddArgs.empty());
+                connection.setCommands().sAdd(brandsKey, bytes(product.getBrandId().toString()));
+                // 재구축이 중단되면 임시 키는 만료로 정리된다.
+                connection.keyCommands().expire(globalKey, ttlSeconds);
+                connection.keyCommands().expire(brandKey, ttlSeconds);
+            }
+            connection.keyCommands().expire(brandsKey, ttlSeconds);
+            return null;
+        });
+    }
+
+    // 교체 전체를 스크립트 하나로 실행하므로, 조회 중인 요청은 이전 인덱스나 새 인덱스 중 하나만 본다.
+    @Override
+    public void publishRebuild(String rebuildId) {
+        redisTemplate.execute(
+            PUBLISH_REBUILD_SCRIPT,
+            List.of(REBUILD_BRANDS_KEY_PREFIX + rebuildId, GLOBAL_KEY + REBUILD_SUFFIX + rebuildId, GLOBAL_KEY, READY_KEY),
+            BRAND_KEY_PREFIX, REBUILD_SUFFIX + rebuildId
+        );
+    }
+
+    // ZREVRANGE 는 동점을 member 역순으로 준다. (Long.MAX_VALUE - id) 를 19자리 고정폭으로 저장하면 역순이 곧 id 오름차순이 된다.
+    private static String member(Long productId) {
+        return String.format("%019d", Long.MAX_VALUE - productId);
+    }
+
+    private static Long productId(String member) {
+        return Long.MAX_VALUE - Long.parseLong(member);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String key(Long brandId) {
+        return brandId == null ? GLOBAL_KEY : BRAND_KEY_PREFIX + brandId;
+    }
+}
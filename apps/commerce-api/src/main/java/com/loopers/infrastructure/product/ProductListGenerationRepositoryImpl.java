@@ -0,0 +1,92 @@
+package com.loopers.infrastructure.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.domain.product.ProductListGenerationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 상품 목록 캐시 키에 포함되는 세대(generation) 카운터.
+ * 쓰기 시 해당 브랜드와 전체 세대만 올려 이전 키를 더 이상 참조하지 않게 하고, 이전 엔트리는 TTL 로 자연 만료시킨다.
+ * 매 요청마다 Redis 를 조회하지 않도록 노드 로컬에 짧게 보관하고, 변경은 Pub/Sub 으로 즉시 전파한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductListGenerationRepositoryImpl implements ProductListGenerationRepository, MessageListener {
+
+    private static final String KEY_PREFIX = "product:list:gen:";
+    private static final String GLOBAL_KEY = KEY_PREFIX + "all";
+    private static final String BRAND_KEY_PREFIX = KEY_PREFIX + "brand:";
+    private static final String CHANNEL = "product:list:generation";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // Pub/Sub 메시지를 놓치더라도 최대 3초 뒤에는 Redis 값으로 다시 맞춰진다.
+    private final Cache<String, Long> localGenerations = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(3))
+        .maximumSize(10_000)
+        .build();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public long getGlobalGeneration() {
+        return getGeneration(GLOBAL_KEY);
+    }
+
+    @Override
+    public long getBrandGeneration(Long brandId) {
+        return getGeneration(BRAND_KEY_PREFIX + brandId);
+    }
+
+    @Override
+    public void increase(Long brandId) {
+        increase(BRAND_KEY_PREFIX + brandId);
+        increase(GLOBAL_KEY);
+    }
+
+    private long getGeneration(String key) {
+        return localGenerations.get(key, k -> {
+            String value = redisTemplate.opsForValue().get(k);
+            return value != null ? Long.parseLong(value) : 0L;
+        });
+    }
+
+    private void increase(String key) {
+        Long generation = redisTemplate.opsForValue().increment(key);
+        if (generation == null) {
+            return;
+        }
+        localGenerations.asMap().merge(key, generation, Math::max);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, key + "=" + generation);
+        } catch (Exception e) {
+            log.warn("목록 캐시 세대 변경 전파 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("=", 2);
+        if (parts.length != 2) {
+            return;
+        }
+        localGenerations.asMap().merge(parts[0], Long.parseLong(parts[1]), Math::max);
+    }
+}
@@ -1,22 +1,50 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.PriceBucket;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductFacetCount;
+import com.loopers.domain.product.ProductLikeOrderRepository;
+import com.loopers.domain.product.ProductPriceRange;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSort;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.domain.brand.QBrand;
+import com.loopers.domain.product.QProduct;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
 
+    private static final QProduct product = QProduct.product;
+    private static final QBrand brand = QBrand.brand;
+
     private final ProductJpaRepository productJpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final ProductLikeOrderRepository productLikeOrderRepository;
 
     @Override
     public Product save(Product product) {
@@ -39,7 +67,19 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public List<Product> findAllPaged(Long brandId, ProductSort sort, int page, int size) {
+    public List<Product> findAllPaged(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size) {
+        if (usesLikeOrderIndex(priceRange, sort)) {
+            List<Long> ids = productLikeOrderRepository.findProductIds(brandId, (long) page * size, size);
+            return productsInOrder(ids);
+        }
+        if (!priceRange.isUnbounded()) {
+            return queryFactory.selectFrom(product)
+                .where(listCondition(brandId, priceRange))
+                .orderBy(toOrderSpecifiers(sort))
+                .offset((long) page * size)
+                .limit(size)
+                .fetch();
+        }
         Pageable pageable = PageRequest.of(page, size, toSort(sort));
         if (brandId != null) {
             return productJpaRepository.findAllByBrandIdAndDeletedAtIsNull(brandId, pageable).getContent();
@@ -47,6 +87,163 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findAllByDeletedAtIsNull(pageable).getContent();
     }
 
+    // 엔티티 대신 목록 컬럼만 DTO 로 바로 조회한다. 브랜드명은 같은 쿼리에서 조인해 가져온다.
+    @Override
+    public List<ProductSummary> findSummaries(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size) {
+        if (usesLikeOrderIndex(priceRange, sort)) {
+            List<Long> ids = productLikeOrderRepository.findProductIds(brandId, (long) page * size, size);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            List<ProductSummary> summaries = selectSummaries()
+                .where(product.id.in(ids), product.deletedAt.isNull())
+                .fetch();
+            return inOrder(ids, summaries, ProductSummary::productId);
+        }
+        return selectSummaries()
+            .where(listCondition(brandId, priceRange))
+            .orderBy(toOrderSpecifiers(sort))
+            .offset((long) page * size)
+            .limit(size)
+            .fetch();
+    }
+
+    // 가격 조건은 idx_products_price / idx_products_brand_price 의 price 구간으로 탄다.
+    // 가격순 정렬이면 구간을 인덱스 순서대로 읽고, 다른 정렬이면 구간 안의 행만 정렬한다.
+    private BooleanBuilder listCondition(Long brandId, ProductPriceRange priceRange) {
+        BooleanBuilder where = new BooleanBuilder(product.deletedAt.isNull());
+        if (brandId != null) {
+            where.and(product.brandId.eq(brandId));
+        }
+        if (priceRange.minPrice() != null) {
+            where.and(product.price.goe(priceRange.minPrice()));
+        }
+        if (priceRange.maxPrice() != null) {
+            where.and(product.price.loe(priceRange.maxPrice()));
+        }
+        return where;
+    }
+
+    private JPAQuery<ProductSummary> selectSummaries() {
+        return queryFactory
+            .select(Projections.constructor(ProductSummary.class,
+                product.id,
+                product.name,
+                product.description,
+                product.price,
+                product.stock,
+                product.imageUrl,
+                product.brandId,
+                brand.name,
+                product.likeCount,
+                product.updatedAt
+            ))
+            .from(product)
+            .join(brand).on(brand.id.eq(product.brandId));
+    }
+
+    @Override
+    public List<Long> findTopBrandIdsByLikeCount(int size) {
+        return queryFactory
+            .select(product.brandId)
+            .from(product)
+            .where(product.deletedAt.isNull())
+            .groupBy(product.brandId)
+            .orderBy(product.likeCount.sum().desc())
+            .limit(size)
+            .fetch();
+    }
+
+    // 가격 단위로 묶어 센 뒤 구간으로 합친다. 구간 경계를 바꿔도 쿼리는 그대로다.
+    @Override
+    public List<ProductFacetCount> countByBrandAndPriceBucket() {
+        NumberExpression<Long> productCount = product.count();
+        List<Tuple> rows = queryFactory
+            .select(product.brandId, product.price, productCount)
+            .from(product)
+            .where(product.deletedAt.isNull())
+            .groupBy(product.brandId, product.price)
+            .fetch();
+        Map<Long, Map<PriceBucket, Long>> counts = new HashMap<>();
+        for (Tuple row : rows) {
+            counts.computeIfAbsent(row.get(product.brandId), k -> new HashMap<>())
+                .merge(PriceBucket.of(row.get(product.price)), row.get(productCount), Long::sum);
+        }
+        List<ProductFacetCount> result = new ArrayList<>();
+        counts.forEach((brandId, buckets) ->
+            buckets.forEach((bucket, count) -> result.add(new ProductFacetCount(brandId, bucket, count)))
+        );
+        return result;
+    }
+
+    @Override
+    public List<Product> findAllByCursor(Long brandId, ProductSort sort, ProductCursor cursor, int size) {
+        if (usesLikeOrderIndex(ProductPriceRange.ALL, sort)) {
+            // 커서 상품의 현재 위치 다음부터 읽는다. 커서 상품이 인덱스에서 빠졌으면 MySQL seek 로 대신한다.
+            // 두 경로의 순서가 (like_count DESC, id ASC) 로 같아서, 도중에 경로가 바뀌어도 행이 건너뛰거나 중복되지 않는다.
+            Long position = cursor == null ? Long.valueOf(-1L) : productLikeOrderRepository.findPosition(brandId, cursor.id());
+            if (position != null) {
+                return productsInOrder(productLikeOrderRepository.findProductIds(brandId, position + 1, size));
+            }
+        }
+        BooleanBuilder where = new BooleanBuilder(product.deletedAt.isNull());
+        if (brandId != null) {
+            where.and(product.brandId.eq(brandId));
+        }
+        if (cursor != null) {
+            where.and(seekAfter(sort, cursor));
+        }
+        return queryFactory.selectFrom(product)
+            .where(where)
+            .orderBy(toOrderSpecifiers(sort))
+            .limit(size)
+            .fetch();
+    }
+
+    // 좋아요 순은 Redis 인덱스로 ID 만 정하고, 본문은 PK IN 조회로 읽는다. 인덱스가 아직 구축되지 않았으면 MySQL 로 정렬한다.
+    // 인덱스에는 가격이 없으므로 가격 조건이 있으면 MySQL 로 정렬한다.
+    private boolean usesLikeOrderIndex(ProductPriceRange priceRange, ProductSort sort) {
+        return sort == ProductSort.LIKES_DESC && priceRange.isUnbounded() && productLikeOrderRepository.isReady();
+    }
+
+    private List<Product> productsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Product> products = productJpaRepository.findAllById(ids).stream()
+            .filter(p -> p.getDeletedAt() == null)
+            .toList();
+        return inOrder(ids, products, Product::getId);
+    }
+
+    private static <T> List<T> inOrder(List<Long> ids, List<T> items, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T item : items) {
+            byId.put(idOf.apply(item), item);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // 동순위는 id ASC 로 구분한다. 정렬 인덱스가 (…, id ASC) 로 id 를 명시적으로 포함하므로 filesort 없이 인덱스 순서를 그대로 탄다.
+    private Predicate seekAfter(ProductSort sort, ProductCursor cursor) {
+        return switch (sort) {
+            case LATEST -> product.createdAt.lt(cursor.createdAt())
+                .or(product.createdAt.eq(cursor.createdAt()).and(product.id.gt(cursor.id())));
+            case PRICE_ASC -> product.price.gt((int) cursor.value())
+                .or(product.price.eq((int) cursor.value()).and(product.id.gt(cursor.id())));
+            case LIKES_DESC -> product.likeCount.lt(cursor.value())
+                .or(product.likeCount.eq(cursor.value()).and(product.id.gt(cursor.id())));
+        };
+    }
+
+    private OrderSpecifier<?>[] toOrderSpecifiers(ProductSort sort) {
+        return switch (sort) {
+            case LATEST -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.asc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.asc(), product.id.asc()};
+            case LIKES_DESC -> new OrderSpecifier<?>[]{product.likeCount.desc(), product.id.asc()};
+        };
+    }
+
     private Sort toSort(ProductSort sort) {
         return switch (sort) {
             case LATEST -> Sort.by("createdAt").descending();
@@ -74,4 +271,47 @@ public class ProductRepositoryImpl implements ProductRepository {
     public List<Product> findAllByIds(List<Long> ids) {
         return productJpaRepository.findAllById(ids);
     }
+
+    @Override
+    public List<Product> findActiveByIds(List<Long> ids) {
+        return productJpaRepository.findAllByIdInAndDeletedAtIsNull(ids);
+    }
+
+    @Override
+    public List<Product> findAllAfterId(Long lastId, int size) {
+        return productJpaRepository.findAllByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public boolean updateLikeCount(Long productId, long expected, long actual) {
+        return productJpaRepository.updateLikeCount(productId, expected, actual) > 0;
+    }
+
+    // 상품 수만큼 UPDATE 를 보내지 않고, CASE 로 상품별 증감을 골라 UPDATE 한 번으로 반영한다.
+    @Override
+    public int increaseLikeCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            cases = cases == null
+                ? new CaseBuilder().when(product.id.eq(entry.getKey())).then(entry.getValue())
+                : cases.when(product.id.eq(entry.getKey())).then(entry.getValue());
+        }
+        return (int) queryFactory.update(product)
+            .set(product.likeCount, product.likeCount.add(cases.otherwise(0L)))
+            .where(product.id.in(deltas.keySet()))
+            .execute();
+    }
+
+    @Override
+    public List<Long> findActiveIdsByBrandIdAfter(Long brandId, Long lastId, int size) {
+        return productJpaRepository.findActiveIdsByBrandIdAfter(brandId, lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public int softDeleteByBrandIdInIdRange(Long brandId, Long fromId, Long toId, ZonedDateTime deletedAt) {
+        return productJpaRepository.softDeleteByBrandIdInIdRange(brandId, fromId, toId, deletedAt);
+    }
 }
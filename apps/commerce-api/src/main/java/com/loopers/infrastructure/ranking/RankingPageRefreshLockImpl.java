@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.ranking.RankingPageRefreshLock;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * SET NX PX 로 잠금 키를 잡는다. 값은 노드 ID 로, 어느 노드가 갱신했는지 확인하는 용도다.
+ */
+@Component
+public class RankingPageRefreshLockImpl implements RankingPageRefreshLock {
+
+    private static final String LOCK_KEY = "ranking:page-cache:refresh-lock";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RankingPageRefreshLockImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(Duration leaseTime) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, leaseTime));
+    }
+}
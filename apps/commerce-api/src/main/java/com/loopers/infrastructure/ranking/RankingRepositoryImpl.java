@@ -1,13 +1,19 @@
 package com.loopers.infrastructure.ranking;
 
+import com.loopers.domain.ranking.RankedProduct;
 import com.loopers.domain.ranking.RankingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @RequiredArgsConstructor
@@ -19,11 +25,16 @@ public class RankingRepositoryImpl implements RankingRepository {
     private final RedisTemplate<String, String> redisTemplate;
 
     @Override
-    public List<String> getTopProductIds(String date, int offset, int count) {
-        Set<String> result = redisTemplate.opsForZSet()
-                .reverseRange(KEY_PREFIX + date, offset, (long) offset + count - 1);
+    public List<RankedProduct> getTopProducts(String date, int offset, int count) {
+        Set<ZSetOperations.TypedTuple<String>> result = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(KEY_PREFIX + date, offset, (long) offset + count - 1);
         if (result == null || result.isEmpty()) return Collections.emptyList();
-        return new ArrayList<>(result);
+        List<RankedProduct> products = new ArrayList<>(result.size());
+        for (ZSetOperations.TypedTuple<String> tuple : result) {
+            double score = tuple.getScore() != null ? tuple.getScore() : 0.0;
+            products.add(new RankedProduct(Long.parseLong(tuple.getValue()), score));
+        }
+        return products;
     }
 
     @Override
@@ -31,6 +42,26 @@ public class RankingRepositoryImpl implements RankingRepository {
         return redisTemplate.opsForZSet().reverseRank(KEY_PREFIX + date, productId.toString());
     }
 
+    // ZREVRANK 를 파이프라인으로 묶어 상품 수와 무관하게 한 번의 왕복으로 보낸다.
+    @Override
+    public Map<Long, Long> getRanks(String date, List<Long> productIds) {
+        Map<Long, Long> ranks = new HashMap<>();
+        if (productIds.isEmpty()) return ranks;
+        byte[] key = (KEY_PREFIX + date).getBytes(StandardCharsets.UTF_8);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long productId : productIds) {
+                connection.zSetCommands().zRevRank(key, productId.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        for (int i = 0; i < productIds.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof Long rank) {
+                ranks.put(productIds.get(i), rank);
+            }
+        }
+        return ranks;
+    }
+
     @Override
     public long getTotalCount(String date) {
         Long count = redisTemplate.opsForZSet().size(KEY_PREFIX + date);
@@ -22,10 +22,12 @@ public interface ProductLikeV1ApiSpec {
         @Parameter(description = "상품 ID", required = true) Long productId
     );
 
-    @Operation(summary = "좋아요한 상품 목록 조회", description = "사용자가 좋아요한 상품 목록을 조회합니다.")
+    @Operation(summary = "좋아요한 상품 목록 조회", description = "사용자가 좋아요한 상품 목록을 최근 좋아요 순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. 삭제된 상품은 제외되므로 한 페이지가 size 보다 적을 수 있습니다.")
     ApiResponse<ProductLikeV1Dto.LikedProductListResponse> getLikedProducts(
         @Parameter(description = "로그인 ID", required = true) String loginId,
         @Parameter(description = "비밀번호", required = true) String password,
-        @Parameter(description = "사용자 ID", required = true) Long userId
+        @Parameter(description = "사용자 ID", required = true) Long userId,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") Long cursor,
+        @Parameter(description = "페이지당 상품 수 (최대 100)") int size
     );
 }
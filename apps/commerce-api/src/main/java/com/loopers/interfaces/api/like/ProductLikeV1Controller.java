@@ -1,8 +1,8 @@
 package com.loopers.interfaces.api.like;
 
+import com.loopers.application.like.LikedProductPageInfo;
 import com.loopers.application.like.ProductLikeFacade;
 import com.loopers.application.like.ProductLikeInfo;
-import com.loopers.application.product.ProductInfo;
 import com.loopers.application.user.UserFacade;
 import com.loopers.application.user.UserInfo;
 import com.loopers.interfaces.api.ApiResponse;
@@ -15,10 +15,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1")
@@ -61,13 +60,15 @@ public class ProductLikeV1Controller implements ProductLikeV1ApiSpec {
     public ApiResponse<ProductLikeV1Dto.LikedProductListResponse> getLikedProducts(
         @RequestHeader(HEADER_LOGIN_ID) String loginId,
         @RequestHeader(HEADER_LOGIN_PW) String password,
-        @PathVariable Long userId
+        @PathVariable Long userId,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "20") int size
     ) {
         UserInfo currentUser = userFacade.getMe(loginId, password);
         if (!currentUser.id().equals(userId)) {
             throw new CoreException(ErrorType.FORBIDDEN, "본인의 좋아요 목록만 조회할 수 있습니다.");
         }
-        List<ProductInfo> infos = productLikeFacade.getLikedProducts(userId);
-        return ApiResponse.success(ProductLikeV1Dto.LikedProductListResponse.from(infos));
+        LikedProductPageInfo info = productLikeFacade.getLikedProducts(userId, cursor, size);
+        return ApiResponse.success(ProductLikeV1Dto.LikedProductListResponse.from(info));
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.like;
 
+import com.loopers.application.like.LikedProductPageInfo;
 import com.loopers.application.like.ProductLikeInfo;
 import com.loopers.application.product.ProductInfo;
 
@@ -50,13 +51,17 @@ public class ProductLikeV1Dto {
     }
 
     public record LikedProductListResponse(
-        List<LikedProductResponse> products
+        List<LikedProductResponse> products,
+        Long nextCursor,
+        boolean hasNext
     ) {
-        public static LikedProductListResponse from(List<ProductInfo> infos) {
+        public static LikedProductListResponse from(LikedProductPageInfo info) {
             return new LikedProductListResponse(
-                infos.stream()
+                info.products().stream()
                     .map(LikedProductResponse::from)
-                    .toList()
+                    .toList(),
+                info.nextCursor(),
+                info.hasNext()
             );
         }
     }
@@ -0,0 +1,67 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.application.product.ProductInfo;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 상품 응답의 강한 ETag 를 계산한다.
+ * 좋아요 수와 랭킹은 updatedAt 을 바꾸지 않고도 변하므로, updatedAt 에 응답 필드의 해시를 더해 ETag 를 만든다.
+ * 같은 이유로 updatedAt 만으로는 변경 여부를 알 수 없어, Last-Modified 검증(If-Modified-Since)에는 쓰지 않는다.
+ * 직렬화된 JSON 이 아니라 ProductInfo 필드로 계산하므로, 304 를 돌려줄 때는 응답 직렬화 비용이 들지 않는다.
+ */
+final class ProductETags {
+
+    private static final long UNKNOWN_LAST_MODIFIED = -1L;
+
+    private ProductETags() {
+    }
+
+    static String of(ProductInfo info) {
+        return quote(Long.toHexString(lastModified(info)) + "-" + Integer.toHexString(fieldHash(info)));
+    }
+
+    static String of(List<ProductInfo> infos) {
+        long hash = 1L;
+        for (ProductInfo info : infos) {
+            hash = 31 * hash + fieldHash(info);
+        }
+        return quote(Long.toHexString(lastModified(infos)) + "-" + infos.size() + "-" + Long.toHexString(hash));
+    }
+
+    // 다른 페이지의 상품이 추가/삭제되어 전체 건수만 바뀌어도 응답이 달라지므로 건수를 함께 넣는다.
+    static String of(List<ProductInfo> infos, Long totalCount) {
+        String etag = of(infos);
+        if (totalCount == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + Long.toHexString(totalCount) + "\"";
+    }
+
+    static long lastModified(ProductInfo info) {
+        ZonedDateTime updatedAt = info.updatedAt();
+        return updatedAt == null ? UNKNOWN_LAST_MODIFIED : updatedAt.toInstant().toEpochMilli();
+    }
+
+    static long lastModified(List<ProductInfo> infos) {
+        long latest = UNKNOWN_LAST_MODIFIED;
+        for (ProductInfo info : infos) {
+            latest = Math.max(latest, lastModified(info));
+        }
+        return latest;
+    }
+
+    // ZonedDateTime 은 존 정보에 따라 hashCode 가 달라지므로 epoch millis 로 계산한다. (노드/직렬화기와 무관하게 같은 값)
+    private static int fieldHash(ProductInfo info) {
+        return Objects.hash(
+            info.productId(), info.productName(), info.description(), info.price(), info.stock(), info.imageUrl(),
+            info.brandId(), info.brandName(), info.likeCount(), info.liked(), info.rank(), lastModified(info)
+        );
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
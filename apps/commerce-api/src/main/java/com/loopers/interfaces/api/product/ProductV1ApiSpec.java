@@ -4,20 +4,59 @@ import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @Tag(name = "Product", description = "상품 API")
 public interface ProductV1ApiSpec {
 
-    @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다.")
+    @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다. If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
     ApiResponse<ProductV1Dto.ProductResponse> getProductDetail(
-        @Parameter(description = "상품 ID", required = true) Long productId
+        @Parameter(description = "상품 ID", required = true) Long productId,
+        @Parameter(hidden = true) WebRequest webRequest
     );
 
-    @Operation(summary = "상품 목록 조회", description = "상품 목록을 조회합니다. 필터링, 정렬, 페이지네이션을 지원합니다.")
+    @Operation(summary = "상품 목록 조회", description = "상품 목록을 조회합니다. 필터링, 정렬, 페이지네이션을 지원합니다. 가격 조건이 없으면 전체 건수(totalCount)를 함께 반환합니다.")
     ApiResponse<ProductV1Dto.ProductListResponse> getProducts(
         @Parameter(description = "브랜드 ID (선택)") Long brandId,
+        @Parameter(description = "최소 가격, 포함 (선택)") Integer minPrice,
+        @Parameter(description = "최대 가격, 포함 (선택)") Integer maxPrice,
         @Parameter(description = "정렬 기준: latest(최신순), price_asc(가격 오름차순), likes_desc(좋아요 내림차순)") String sort,
         @Parameter(description = "페이지 번호 (0부터 시작)") int page,
-        @Parameter(description = "페이지당 상품 수") int size
+        @Parameter(description = "페이지당 상품 수") int size,
+        @Parameter(description = "로그인 ID (선택, 있으면 liked 를 채움)") String loginId,
+        @Parameter(description = "비밀번호 (선택)") String password,
+        @Parameter(hidden = true) WebRequest webRequest
+    );
+
+    @Operation(summary = "상품 패싯 조회", description = "브랜드별, 가격 구간별 상품 수를 조회합니다. 브랜드 ID 를 주면 가격 구간별 수는 해당 브랜드 안에서 센 값입니다.")
+    ApiResponse<ProductV1Dto.ProductFacetResponse> getProductFacets(
+        @Parameter(description = "브랜드 ID (선택)") Long brandId
+    );
+
+    @Operation(summary = "상품 다건 조회", description = "여러 상품의 상세 정보를 한 번에 조회합니다. 존재하지 않는 상품은 결과에서 제외됩니다.")
+    ApiResponse<ProductV1Dto.ProductListResponse> getProductsByIds(
+        @Parameter(description = "상품 ID 목록 (최대 50개)", required = true) List<Long> ids
+    );
+
+    @Operation(summary = "상품 검색", description = "상품명, 설명, 브랜드명에 검색어의 모든 단어가 포함된 상품을 좋아요 순으로 조회합니다.")
+    ApiResponse<ProductV1Dto.ProductListResponse> searchProducts(
+        @Parameter(description = "검색어", required = true) String q,
+        @Parameter(description = "최대 결과 수 (최대 50)") int size
+    );
+
+    @Operation(summary = "상품 검색어 자동완성", description = "입력한 접두사로 시작하는 상품명/브랜드명 단어를 조회합니다.")
+    ApiResponse<ProductV1Dto.ProductSuggestionResponse> suggestProducts(
+        @Parameter(description = "검색어 접두사", required = true) String prefix,
+        @Parameter(description = "최대 결과 수 (최대 20)") int size
+    );
+
+    @Operation(summary = "상품 목록 커서 조회", description = "커서 기반으로 상품 목록을 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    ApiResponse<ProductV1Dto.ProductCursorListResponse> getProductsByCursor(
+        @Parameter(description = "브랜드 ID (선택)") Long brandId,
+        @Parameter(description = "정렬 기준: latest(최신순), price_asc(가격 오름차순), likes_desc(좋아요 내림차순)") String sort,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+        @Parameter(description = "페이지당 상품 수 (최대 100)") int size
     );
 }
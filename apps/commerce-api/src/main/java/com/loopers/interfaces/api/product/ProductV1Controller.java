@@ -1,15 +1,22 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductCursorInfo;
 import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductFacetInfo;
 import com.loopers.application.product.ProductInfo;
+import com.loopers.application.product.ProductSearchFacade;
+import com.loopers.application.user.UserFacade;
+import com.loopers.domain.product.ProductPriceRange;
 import com.loopers.domain.product.ProductSort;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,14 +25,25 @@ import java.util.List;
 @RequestMapping("/api/v1/products")
 public class ProductV1Controller implements ProductV1ApiSpec {
 
+    private static final String HEADER_LOGIN_ID = "X-Loopers-LoginId";
+    private static final String HEADER_LOGIN_PW = "X-Loopers-LoginPw";
+
     private final ProductFacade productFacade;
+    private final ProductSearchFacade productSearchFacade;
+    private final UserFacade userFacade;
 
     @GetMapping("/{productId}")
     @Override
     public ApiResponse<ProductV1Dto.ProductResponse> getProductDetail(
-        @PathVariable Long productId
+        @PathVariable Long productId,
+        WebRequest webRequest
     ) {
         ProductInfo info = productFacade.getProductDetail(productId, null);
+        // 클라이언트가 가진 버전과 같으면 본문 직렬화 없이 304 를 반환한다.
+        // 좋아요 수/랭킹은 updatedAt 을 바꾸지 않으므로 If-Modified-Since 로는 판단하지 않고 ETag 로만 검증한다.
+        if (webRequest.checkNotModified(ProductETags.of(info))) {
+            return null;
+        }
         return ApiResponse.success(ProductV1Dto.ProductResponse.from(info));
     }
 
@@ -33,12 +51,74 @@ public class ProductV1Controller implements ProductV1ApiSpec {
     @Override
     public ApiResponse<ProductV1Dto.ProductListResponse> getProducts(
         @RequestParam(required = false) Long brandId,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
         @RequestParam(defaultValue = "latest") String sort,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "20") int size
+        @RequestParam(defaultValue = "20") int size,
+        @RequestHeader(value = HEADER_LOGIN_ID, required = false) String loginId,
+        @RequestHeader(value = HEADER_LOGIN_PW, required = false) String password,
+        WebRequest webRequest
     ) {
         ProductSort productSort = ProductSort.from(sort);
-        List<ProductInfo> infos = productFacade.getProducts(brandId, productSort, page, size);
+        ProductPriceRange priceRange = ProductPriceRange.of(minPrice, maxPrice);
+        // 로그인 헤더가 있으면 liked 를 채운다. 없으면 모두 false 로 응답한다.
+        Long userId = loginId == null || password == null ? null : userFacade.getMe(loginId, password).id();
+        List<ProductInfo> infos = productFacade.getProducts(brandId, priceRange, productSort, page, size, userId);
+        Long totalCount = productFacade.countProducts(brandId, priceRange);
+        if (webRequest.checkNotModified(ProductETags.of(infos, totalCount))) {
+            return null;
+        }
+        return ApiResponse.success(ProductV1Dto.ProductListResponse.from(infos, totalCount));
+    }
+
+    @GetMapping("/facets")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductFacetResponse> getProductFacets(
+        @RequestParam(required = false) Long brandId
+    ) {
+        ProductFacetInfo info = productFacade.getProductFacets(brandId);
+        return ApiResponse.success(ProductV1Dto.ProductFacetResponse.from(info));
+    }
+
+    @GetMapping("/batch")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductListResponse> getProductsByIds(
+        @RequestParam List<Long> ids
+    ) {
+        List<ProductInfo> infos = productFacade.getProductDetails(ids, null);
+        return ApiResponse.success(ProductV1Dto.ProductListResponse.from(infos));
+    }
+
+    @GetMapping("/search")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductListResponse> searchProducts(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        List<ProductInfo> infos = productSearchFacade.search(q, size);
         return ApiResponse.success(ProductV1Dto.ProductListResponse.from(infos));
     }
+
+    @GetMapping("/search/suggestions")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductSuggestionResponse> suggestProducts(
+        @RequestParam String prefix,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ApiResponse.success(ProductV1Dto.ProductSuggestionResponse.from(productSearchFacade.suggest(prefix, size)));
+    }
+
+    @GetMapping("/cursor")
+    @Override
+    public ApiResponse<ProductV1Dto.ProductCursorListResponse> getProductsByCursor(
+        @RequestParam(required = false) Long brandId,
+        @RequestParam(defaultValue = "latest") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        ProductSort productSort = ProductSort.from(sort);
+        ProductCursorInfo info = productFacade.getProductsByCursor(brandId, productSort, cursor, size);
+        return ApiResponse.success(ProductV1Dto.ProductCursorListResponse.from(info));
+    }
 }
@@ -1,5 +1,7 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductCursorInfo;
+import com.loopers.application.product.ProductFacetInfo;
 import com.loopers.application.product.ProductInfo;
 
 import java.util.List;
@@ -36,15 +38,75 @@ public class ProductV1Dto {
         }
     }
 
+    // totalCount 는 전체 건수를 알 수 있는 목록 조회에서만 채워지고, 그 외에는 null 이다.
     public record ProductListResponse(
-        List<ProductResponse> products
+        List<ProductResponse> products,
+        Long totalCount
     ) {
         public static ProductListResponse from(List<ProductInfo> infos) {
+            return from(infos, null);
+        }
+
+        public static ProductListResponse from(List<ProductInfo> infos, Long totalCount) {
             return new ProductListResponse(
                 infos.stream()
                     .map(ProductResponse::from)
+                    .toList(),
+                totalCount
+            );
+        }
+    }
+
+    public record ProductCursorListResponse(
+        List<ProductResponse> products,
+        String nextCursor,
+        boolean hasNext
+    ) {
+        public static ProductCursorListResponse from(ProductCursorInfo info) {
+            return new ProductCursorListResponse(
+                info.products().stream()
+                    .map(ProductResponse::from)
+                    .toList(),
+                info.nextCursor(),
+                info.hasNext()
+            );
+        }
+    }
+
+    public record ProductFacetResponse(
+        List<BrandFacetResponse> brands,
+        List<PriceFacetResponse> priceRanges
+    ) {
+        public static ProductFacetResponse from(ProductFacetInfo info) {
+            return new ProductFacetResponse(
+                info.brands().stream()
+                    .map(brand -> new BrandFacetResponse(brand.brandId(), brand.brandName(), brand.count()))
+                    .toList(),
+                info.priceRanges().stream()
+                    .map(price -> new PriceFacetResponse(price.priceRange(), price.minPrice(), price.maxPrice(), price.count()))
                     .toList()
             );
         }
     }
+
+    public record BrandFacetResponse(
+        Long brandId,
+        String brandName,
+        long count
+    ) {}
+
+    public record PriceFacetResponse(
+        String priceRange,
+        int minPrice,
+        Integer maxPrice,
+        long count
+    ) {}
+
+    public record ProductSuggestionResponse(
+        List<String> suggestions
+    ) {
+        public static ProductSuggestionResponse from(List<String> suggestions) {
+            return new ProductSuggestionResponse(suggestions);
+        }
+    }
 }
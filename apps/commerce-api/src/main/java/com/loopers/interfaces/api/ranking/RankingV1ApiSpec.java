@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.ranking;
 
 import com.loopers.interfaces.api.ApiResponse;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 public interface RankingV1ApiSpec {
@@ -11,6 +12,8 @@ public interface RankingV1ApiSpec {
             @RequestParam String date,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "daily") String period
+            @RequestParam(defaultValue = "daily") String period,
+            @RequestHeader(value = "X-Loopers-LoginId", required = false) String loginId,
+            @RequestHeader(value = "X-Loopers-LoginPw", required = false) String password
     );
 }
@@ -2,9 +2,11 @@ package com.loopers.interfaces.api.ranking;
 
 import com.loopers.application.ranking.RankingFacade;
 import com.loopers.application.ranking.RankingInfo;
+import com.loopers.application.user.UserFacade;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,7 +18,11 @@ import java.util.List;
 @RequestMapping("/api/v1/rankings")
 public class RankingV1Controller implements RankingV1ApiSpec {
 
+    private static final String HEADER_LOGIN_ID = "X-Loopers-LoginId";
+    private static final String HEADER_LOGIN_PW = "X-Loopers-LoginPw";
+
     private final RankingFacade rankingFacade;
+    private final UserFacade userFacade;
 
     @GetMapping
     @Override
@@ -24,9 +30,13 @@ public class RankingV1Controller implements RankingV1ApiSpec {
             @RequestParam String date,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "daily") String period
+            @RequestParam(defaultValue = "daily") String period,
+            @RequestHeader(value = HEADER_LOGIN_ID, required = false) String loginId,
+            @RequestHeader(value = HEADER_LOGIN_PW, required = false) String password
     ) {
-        List<RankingInfo> rankings = rankingFacade.getTopRankings(date, page, size, period);
+        // 로그인 헤더가 있으면 liked 를 채운다.
+        Long userId = loginId == null || password == null ? null : userFacade.getMe(loginId, password).id();
+        List<RankingInfo> rankings = rankingFacade.getTopRankings(date, page, size, period, userId);
         return ApiResponse.success(RankingV1Dto.RankingListResponse.of(date, page, size, period, rankings));
     }
 }
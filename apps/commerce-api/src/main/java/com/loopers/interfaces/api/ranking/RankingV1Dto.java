@@ -13,7 +13,9 @@ public class RankingV1Dto {
             String imageUrl,
             int price,
             Long brandId,
-            String brandName
+            String brandName,
+            double score,
+            boolean liked
     ) {
         public static RankingItemResponse from(RankingInfo info) {
             return new RankingItemResponse(
@@ -23,7 +25,9 @@ public class RankingV1Dto {
                     info.imageUrl(),
                     info.price(),
                     info.brandId(),
-                    info.brandName()
+                    info.brandName(),
+                    info.score(),
+                    info.liked()
             );
         }
     }
@@ -0,0 +1,18 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.product.CatalogCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class CatalogWarmUpScheduler {
+
+    private final CatalogCacheWarmer catalogCacheWarmer;
+
+    @Scheduled(fixedDelay = 5000)
+    public void warmUpInvalidatedLists() {
+        catalogCacheWarmer.warmUpInvalidatedLists();
+    }
+}
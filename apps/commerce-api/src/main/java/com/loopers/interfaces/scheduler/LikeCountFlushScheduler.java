@@ -0,0 +1,24 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.like.LikeCountFlusher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountFlushScheduler {
+
+    private final LikeCountFlusher likeCountFlusher;
+
+    // 여러 노드에서 실행되어도 버퍼는 RENAME 으로 한 노드만 떼어가므로 같은 증감이 두 번 반영되지 않는다.
+    @Scheduled(fixedDelay = 1000)
+    public void flushLikeCounts() {
+        int applied = likeCountFlusher.flush();
+        if (applied > 0) {
+            log.debug("좋아요 수 반영: products={}", applied);
+        }
+    }
+}
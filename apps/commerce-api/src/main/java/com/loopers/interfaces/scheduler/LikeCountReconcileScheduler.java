@@ -0,0 +1,22 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.like.LikeCountReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountReconcileScheduler {
+
+    private final LikeCountReconciler likeCountReconciler;
+
+    // 여러 노드에서 동시에 실행되어도 보정은 조건부 UPDATE 라 결과가 같다.
+    @Scheduled(fixedDelay = 600000)
+    public void reconcileLikeCounts() {
+        int corrected = likeCountReconciler.reconcile();
+        log.info("좋아요 수 정합성 점검 완료: corrected={}", corrected);
+    }
+}
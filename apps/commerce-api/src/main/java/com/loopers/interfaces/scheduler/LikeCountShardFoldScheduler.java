@@ -0,0 +1,24 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.like.LikeCountShardFolder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountShardFoldScheduler {
+
+    private final LikeCountShardFolder likeCountShardFolder;
+
+    // 여러 노드에서 동시에 실행되어도 슬롯 행을 잠그고 합치므로 같은 값이 두 번 더해지지 않는다.
+    @Scheduled(fixedDelay = 10000)
+    public void foldLikeCountShards() {
+        int folded = likeCountShardFolder.fold();
+        if (folded > 0) {
+            log.debug("좋아요 수 슬롯 합산: products={}", folded);
+        }
+    }
+}
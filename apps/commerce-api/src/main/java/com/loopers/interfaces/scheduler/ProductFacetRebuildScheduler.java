@@ -0,0 +1,22 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.product.ProductFacetRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductFacetRebuildScheduler {
+
+    private final ProductFacetRebuilder productFacetRebuilder;
+
+    // 기동 직후 한 번 실행되어 카운터를 채우고, 이후 주기적으로 MySQL 값과 다시 맞춘다.
+    @Scheduled(fixedDelay = 3600000)
+    public void rebuildFacets() {
+        int cells = productFacetRebuilder.rebuild();
+        log.info("상품 패싯 카운터 재구축 완료: cells={}", cells);
+    }
+}
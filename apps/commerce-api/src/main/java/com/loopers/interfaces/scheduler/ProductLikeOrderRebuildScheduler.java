@@ -0,0 +1,22 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.product.ProductLikeOrderRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductLikeOrderRebuildScheduler {
+
+    private final ProductLikeOrderRebuilder productLikeOrderRebuilder;
+
+    // 기동 직후 한 번 실행되어 인덱스를 준비하고, 이후 주기적으로 MySQL 값과 다시 맞춘다.
+    @Scheduled(fixedDelay = 3600000)
+    public void rebuildLikeOrder() {
+        int indexed = productLikeOrderRebuilder.rebuild();
+        log.info("좋아요 순 인덱스 재구축 완료: indexed={}", indexed);
+    }
+}
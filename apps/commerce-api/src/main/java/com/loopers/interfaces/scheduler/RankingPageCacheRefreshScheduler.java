@@ -0,0 +1,24 @@
+package com.loopers.interfaces.scheduler;
+
+import com.loopers.application.ranking.RankingFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RankingPageCacheRefreshScheduler {
+
+    private final RankingFacade rankingFacade;
+
+    // 모든 노드에서 실행되지만 잠금을 잡은 한 노드만 갱신한다.
+    @Scheduled(fixedDelay = 10000)
+    public void refreshRankingPages() {
+        int refreshed = rankingFacade.refreshCachedPages();
+        if (refreshed > 0) {
+            log.debug("랭킹 페이지 캐시 갱신: pages={}", refreshed);
+        }
+    }
+}
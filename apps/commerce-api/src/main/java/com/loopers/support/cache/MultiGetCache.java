@@ -0,0 +1,26 @@
+package com.loopers.support.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 여러 키를 한 번의 왕복으로 조회할 수 있는 캐시.
+ * CacheManager 가 돌려준 Cache 가 이 인터페이스를 구현하지 않으면, 호출자는 키마다 조회로 대체한다.
+ */
+public interface MultiGetCache {
+
+    /**
+     * 캐시에 있는 키의 값만 담아 반환한다. 반환 맵의 키는 String.valueOf(key) 이다.
+     */
+    Map<String, Object> getAll(Collection<?> keys);
+
+    /**
+     * 현재 무효화 세대. 캐시 밖에서 원본을 읽기 전에 받아 두고 {@link #putAll(Map, long)} 에 넘긴다.
+     */
+    long invalidationEpoch();
+
+    /**
+     * epoch 이후 evict/clear 가 없었을 때만 값을 모두 채운다. 무효화가 끼어들었으면 아무것도 쓰지 않고 false 를 반환한다.
+     */
+    boolean putAll(Map<?, ?> values, long epoch);
+}
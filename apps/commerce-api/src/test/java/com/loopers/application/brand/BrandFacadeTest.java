@@ -1,14 +1,24 @@
 package com.loopers.application.brand;
 
+import com.loopers.application.product.ProductCacheInvalidator;
+import com.loopers.application.product.ProductSearchIndexer;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.brand.FakeBrandRepository;
+import com.loopers.domain.product.FakeProductChangeBroadcaster;
+import com.loopers.domain.product.FakeProductFacetRepository;
+import com.loopers.domain.product.FakeProductLikeOrderRepository;
+import com.loopers.domain.product.FakeProductListGenerationRepository;
 import com.loopers.domain.product.FakeProductRepository;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductSearchIndex;
 import com.loopers.domain.product.ProductService;
+import com.loopers.infrastructure.cache.CacheConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.util.List;
 
@@ -21,6 +31,10 @@ class BrandFacadeTest {
     private FakeBrandRepository fakeBrandRepository;
     private FakeProductRepository fakeProductRepository;
     private ProductService productService;
+    private FakeProductListGenerationRepository fakeProductListGenerationRepository;
+    private CacheManager cacheManager;
+    private ProductSearchIndex productSearchIndex;
+    private FakeProductChangeBroadcaster fakeProductChangeBroadcaster;
 
     @BeforeEach
     void setUp() {
@@ -30,7 +44,21 @@ class BrandFacadeTest {
         BrandService brandService = new BrandService(fakeBrandRepository);
         productService = new ProductService(fakeProductRepository);
 
-        brandFacade = new BrandFacade(brandService, productService);
+        fakeProductListGenerationRepository = new FakeProductListGenerationRepository();
+        cacheManager = new ConcurrentMapCacheManager();
+        ProductCacheInvalidator productCacheInvalidator =
+            new ProductCacheInvalidator(cacheManager, fakeProductListGenerationRepository, event -> {});
+
+        productSearchIndex = new ProductSearchIndex();
+        fakeProductChangeBroadcaster = new FakeProductChangeBroadcaster();
+        ProductSearchIndexer productSearchIndexer = new ProductSearchIndexer(
+            productService, brandService, productSearchIndex, fakeProductChangeBroadcaster
+        );
+
+        brandFacade = new BrandFacade(
+            brandService, productService, new FakeProductLikeOrderRepository(), new FakeProductFacetRepository(),
+            productCacheInvalidator, productSearchIndexer
+        );
     }
 
     @DisplayName("브랜드 등록 시,")
@@ -79,10 +107,52 @@ class BrandFacadeTest {
         }
     }
 
+    @DisplayName("브랜드 수정 시,")
+    @Nested
+    class Update {
+
+        @DisplayName("브랜드 상품을 새 브랜드명으로 다시 색인하고, 다른 노드에는 알림을 한 번만 보낸다.")
+        @Test
+        void reindexesBrandProducts_withOneBroadcast() {
+            // arrange
+            BrandInfo brand = brandFacade.register("뉴발란스", "라이프스타일 브랜드", "http://nb.url");
+            Product product1 = fakeProductRepository.save(new Product(brand.brandId(), "550", "클래식 운동화", 120000, 10, "http://550.url"));
+            Product product2 = fakeProductRepository.save(new Product(brand.brandId(), "574", "데일리 운동화", 110000, 5, "http://574.url"));
+
+            // act
+            brandFacade.update(brand.brandId(), "엔비", "라이프스타일 브랜드", "http://nb.url");
+
+            // assert
+            assertAll(
+                () -> assertThat(productSearchIndex.search("엔비", 10)).containsExactlyInAnyOrder(product1.getId(), product2.getId()),
+                () -> assertThat(fakeProductChangeBroadcaster.getMessages())
+                    .containsExactly(List.of(product1.getId(), product2.getId()))
+            );
+        }
+    }
+
     @DisplayName("브랜드 삭제 시,")
     @Nested
     class Delete {
 
+        @DisplayName("삭제된 상품의 상세 캐시를 지우고, 브랜드 목록 캐시 세대를 올린다.")
+        @Test
+        void deleteBrand_invalidatesProductCaches() {
+            // arrange
+            BrandInfo brand = brandFacade.register("뉴발란스", "라이프스타일 브랜드", "http://nb.url");
+            Product product = fakeProductRepository.save(new Product(brand.brandId(), "550", "클래식 운동화", 120000, 10, "http://550.url"));
+            cacheManager.getCache(CacheConfig.PRODUCT_DETAIL).put(product.getId(), "캐시된 상세");
+
+            // act
+            brandFacade.delete(brand.brandId());
+
+            // assert
+            assertAll(
+                () -> assertThat(cacheManager.getCache(CacheConfig.PRODUCT_DETAIL).get(product.getId())).isNull(),
+                () -> assertThat(fakeProductListGenerationRepository.getBrandGeneration(brand.brandId())).isEqualTo(1L)
+            );
+        }
+
         @DisplayName("브랜드 삭제 시 해당 브랜드의 모든 상품이 소프트 삭제된다.")
         @Test
         void deleteBrand_cascadesToProducts() {
@@ -0,0 +1,108 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.FakeLikedProductIndex;
+import com.loopers.domain.like.FakeProductLikeRepository;
+import com.loopers.domain.like.ProductLikeService;
+import com.loopers.domain.product.FakeHotProductRegistry;
+import com.loopers.domain.product.FakeProductLikeCountBuffer;
+import com.loopers.domain.product.FakeProductLikeCountShardRepository;
+import com.loopers.domain.product.FakeProductLikeOrderRepository;
+import com.loopers.domain.product.FakeProductRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountService;
+import com.loopers.domain.product.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LikeCountReconcilerTest {
+
+    private LikeCountReconciler likeCountReconciler;
+    private LikeCountFlusher likeCountFlusher;
+    private FakeProductRepository fakeProductRepository;
+    private ProductLikeService productLikeService;
+    private FakeProductLikeCountBuffer fakeProductLikeCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        fakeProductRepository = new FakeProductRepository();
+        productLikeService = new ProductLikeService(new FakeProductLikeRepository(), new FakeLikedProductIndex());
+        fakeProductLikeCountBuffer = new FakeProductLikeCountBuffer();
+        ProductService productService = new ProductService(fakeProductRepository);
+        FakeHotProductRegistry fakeHotProductRegistry = new FakeHotProductRegistry();
+        ProductLikeCountService productLikeCountService =
+            new ProductLikeCountService(fakeProductRepository, new FakeProductLikeCountShardRepository(), fakeHotProductRegistry);
+        FakeProductLikeOrderRepository fakeProductLikeOrderRepository = new FakeProductLikeOrderRepository();
+        likeCountReconciler = new LikeCountReconciler(
+            productService, productLikeService, fakeProductLikeOrderRepository,
+            fakeProductLikeCountBuffer, productLikeCountService
+        );
+        likeCountFlusher = new LikeCountFlusher(
+            productService, fakeProductLikeCountBuffer, fakeProductLikeOrderRepository, fakeHotProductRegistry
+        );
+    }
+
+    @DisplayName("저장된 좋아요 수가 실제 좋아요 건수와 다르면, 실제 건수로 보정한다.")
+    @Test
+    void correctsDriftedLikeCount() {
+        // arrange
+        Product drifted = fakeProductRepository.save(new Product(1L, "상품1", "설명", 1000, 10, "http://1.url"));
+        Product consistent = fakeProductRepository.save(new Product(1L, "상품2", "설명", 1000, 10, "http://2.url"));
+        productLikeService.like(1L, drifted.getId());
+        productLikeService.like(2L, drifted.getId());
+        drifted.increaseLikeCount();
+        productLikeService.like(1L, consistent.getId());
+        consistent.increaseLikeCount();
+
+        // act
+        int corrected = likeCountReconciler.reconcile();
+
+        // assert
+        assertAll(
+            () -> assertThat(corrected).isEqualTo(1),
+            () -> assertThat(drifted.getLikeCount()).isEqualTo(2L),
+            () -> assertThat(consistent.getLikeCount()).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("아직 반영되지 않은 좋아요 증감이 있는 상품은, 보정하지 않는다.")
+    @Test
+    void skipsProductWithPendingDelta() {
+        // arrange
+        Product product = fakeProductRepository.save(new Product(1L, "상품1", "설명", 1000, 10, "http://1.url"));
+        productLikeService.like(1L, product.getId());
+        fakeProductLikeCountBuffer.add(product.getId(), 1);
+
+        // act
+        int corrected = likeCountReconciler.reconcile();
+
+        // assert
+        assertAll(
+            () -> assertThat(corrected).isZero(),
+            () -> assertThat(fakeProductRepository.findById(product.getId()).get().getLikeCount()).isZero()
+        );
+    }
+
+    @DisplayName("떼어냈지만 아직 완료되지 않은 배치에 증감이 있는 상품은, 보정하지 않아 배치 반영 후에도 좋아요 수가 맞다.")
+    @Test
+    void skipsProductInOpenBatch_thenFlushAppliesIt() {
+        // arrange
+        Product product = fakeProductRepository.save(new Product(1L, "상품1", "설명", 1000, 10, "http://1.url"));
+        productLikeService.like(1L, product.getId());
+        fakeProductLikeCountBuffer.add(product.getId(), 1);
+        fakeProductLikeCountBuffer.drain();
+
+        // act
+        int corrected = likeCountReconciler.reconcile();
+        likeCountFlusher.flush();
+
+        // assert
+        assertAll(
+            () -> assertThat(corrected).isZero(),
+            () -> assertThat(fakeProductRepository.findById(product.getId()).get().getLikeCount()).isEqualTo(1L)
+        );
+    }
+}
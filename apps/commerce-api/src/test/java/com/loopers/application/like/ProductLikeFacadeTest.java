@@ -1,11 +1,19 @@
 package com.loopers.application.like;
 
+import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.brand.FakeBrandRepository;
+import com.loopers.domain.like.FakeLikedProductIndex;
 import com.loopers.domain.like.FakeProductLikeRepository;
 import com.loopers.domain.like.ProductLikeService;
+import com.loopers.domain.product.FakeHotProductRegistry;
+import com.loopers.domain.product.FakeProductLikeCountBuffer;
+import com.loopers.domain.product.FakeProductLikeCountShardRepository;
+import com.loopers.domain.product.FakeProductLikeOrderRepository;
 import com.loopers.domain.product.FakeProductRepository;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountService;
 import com.loopers.domain.product.ProductService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -22,7 +30,13 @@ class ProductLikeFacadeTest {
 
     private ProductLikeFacade productLikeFacade;
     private FakeProductRepository fakeProductRepository;
+    private FakeBrandRepository fakeBrandRepository;
     private FakeProductLikeRepository fakeProductLikeRepository;
+    private FakeProductLikeOrderRepository fakeProductLikeOrderRepository;
+    private FakeProductLikeCountBuffer fakeProductLikeCountBuffer;
+    private LikeCountFlusher likeCountFlusher;
+    private LikeCountShardFolder likeCountShardFolder;
+    private FakeProductLikeCountShardRepository fakeProductLikeCountShardRepository;
 
     private static final Long USER_ID = 1L;
 
@@ -30,10 +44,33 @@ class ProductLikeFacadeTest {
     void setUp() {
         fakeProductRepository = new FakeProductRepository();
         fakeProductLikeRepository = new FakeProductLikeRepository();
-        BrandService brandService = new BrandService(new FakeBrandRepository());
+        fakeProductLikeOrderRepository = new FakeProductLikeOrderRepository();
+        fakeProductLikeCountBuffer = new FakeProductLikeCountBuffer();
+        fakeBrandRepository = new FakeBrandRepository();
+        BrandService brandService = new BrandService(fakeBrandRepository);
         ProductService productService = new ProductService(fakeProductRepository);
-        ProductLikeService productLikeService = new ProductLikeService(fakeProductLikeRepository);
-        productLikeFacade = new ProductLikeFacade(productService, productLikeService, brandService, event -> {});
+        FakeLikedProductIndex fakeLikedProductIndex = new FakeLikedProductIndex();
+        ProductLikeService productLikeService = new ProductLikeService(fakeProductLikeRepository, fakeLikedProductIndex);
+        fakeProductLikeCountShardRepository = new FakeProductLikeCountShardRepository();
+        FakeHotProductRegistry fakeHotProductRegistry = new FakeHotProductRegistry();
+        ProductLikeCountService productLikeCountService =
+            new ProductLikeCountService(fakeProductRepository, fakeProductLikeCountShardRepository, fakeHotProductRegistry);
+        // 커밋 후 좋아요 수를 반영하는 리스너를 즉시 호출해 트랜잭션 이벤트 흐름을 흉내낸다.
+        LikeEventListener likeEventListener = new LikeEventListener(
+            productService, productLikeCountService, fakeHotProductRegistry, fakeProductLikeCountBuffer, fakeLikedProductIndex
+        );
+        likeCountFlusher = new LikeCountFlusher(
+            productService, fakeProductLikeCountBuffer, fakeProductLikeOrderRepository, fakeHotProductRegistry
+        );
+        likeCountShardFolder = new LikeCountShardFolder(productService, productLikeCountService, fakeProductLikeOrderRepository);
+        productLikeFacade = new ProductLikeFacade(
+            productService, productLikeService, brandService, fakeProductLikeCountBuffer, productLikeCountService, event -> {
+            if (event instanceof LikeCreatedEvent created) {
+                likeEventListener.onLikeCreated(created);
+            } else if (event instanceof LikeCancelledEvent cancelled) {
+                likeEventListener.onLikeCancelled(cancelled);
+            }
+        });
     }
 
     @DisplayName("좋아요 등록 시,")
@@ -58,6 +95,24 @@ class ProductLikeFacadeTest {
             );
         }
 
+        @DisplayName("같은 사용자가 여러 번 좋아요를 눌러도 좋아요 수는 한 번만 증가한다.")
+        @Test
+        void increasesLikeCountOnce_whenLikedRepeatedly() {
+            // arrange
+            Product product = fakeProductRepository.save(new Product(1L, "상품명", "설명", 1000, 10, "http://image.url"));
+
+            // act
+            productLikeFacade.like(USER_ID, product.getId());
+            productLikeFacade.like(USER_ID, product.getId());
+            likeCountFlusher.flush();
+
+            // assert
+            assertAll(
+                () -> assertThat(fakeProductRepository.findById(product.getId()).get().getLikeCount()).isEqualTo(1L),
+                () -> assertThat(fakeProductLikeOrderRepository.getScore(product.getId())).isEqualTo(1L)
+            );
+        }
+
         @DisplayName("존재하지 않는 상품에 좋아요를 누르면 NOT_FOUND 예외가 발생한다.")
         @Test
         void throwsNotFound_whenProductDoesNotExist() {
@@ -116,5 +171,134 @@ class ProductLikeFacadeTest {
                 () -> assertThat(info.liked()).isFalse()
             );
         }
+
+        @DisplayName("조회 후 좋아요를 취소하면, 커밋 후 반영된 사용자 집합에서 liked 가 false 로 반환된다.")
+        @Test
+        void returnsLikedFalse_afterUnlikeFollowingRead() {
+            // arrange
+            Product product = fakeProductRepository.save(new Product(1L, "상품명", "설명", 1000, 10, "http://image.url"));
+            Long productId = product.getId();
+            productLikeFacade.like(USER_ID, productId);
+            ProductLikeInfo before = productLikeFacade.getLikeInfo(USER_ID, productId);
+
+            // act
+            productLikeFacade.unlike(USER_ID, productId);
+            ProductLikeInfo after = productLikeFacade.getLikeInfo(USER_ID, productId);
+
+            // assert
+            assertAll(
+                () -> assertThat(before.liked()).isTrue(),
+                () -> assertThat(after.liked()).isFalse()
+            );
+        }
+    }
+
+    @DisplayName("좋아요한 상품 목록 조회 시,")
+    @Nested
+    class GetLikedProducts {
+
+        @DisplayName("최근 좋아요 순으로 커서를 따라 나눠 반환하고, 삭제된 상품은 제외한다.")
+        @Test
+        void returnsPagesByCursor_excludingDeletedProducts() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Product first = fakeProductRepository.save(new Product(brand.getId(), "상품1", "설명", 1000, 10, "http://image.url"));
+            Product deleted = fakeProductRepository.save(new Product(brand.getId(), "상품2", "설명", 2000, 10, "http://image.url"));
+            Product third = fakeProductRepository.save(new Product(brand.getId(), "상품3", "설명", 3000, 10, "http://image.url"));
+            productLikeFacade.like(USER_ID, first.getId());
+            productLikeFacade.like(USER_ID, deleted.getId());
+            productLikeFacade.like(USER_ID, third.getId());
+            deleted.delete();
+
+            // act
+            LikedProductPageInfo firstPage = productLikeFacade.getLikedProducts(USER_ID, null, 2);
+            LikedProductPageInfo secondPage = productLikeFacade.getLikedProducts(USER_ID, firstPage.nextCursor(), 2);
+
+            // assert
+            assertAll(
+                () -> assertThat(firstPage.products()).extracting(ProductInfo::productId).containsExactly(third.getId()),
+                () -> assertThat(firstPage.hasNext()).isTrue(),
+                () -> assertThat(secondPage.products()).extracting(ProductInfo::productId).containsExactly(first.getId()),
+                () -> assertThat(secondPage.hasNext()).isFalse(),
+                () -> assertThat(secondPage.products().get(0).brandName()).isEqualTo("나이키")
+            );
+        }
+    }
+
+    @DisplayName("좋아요 수 반영 시,")
+    @Nested
+    class FlushLikeCount {
+
+        @DisplayName("반영 전에는 상품 행을 바꾸지 않고, 반영하면 쌓인 증감을 한 번에 더한다.")
+        @Test
+        void appliesBufferedDeltasOnFlush() {
+            // arrange
+            Product product = fakeProductRepository.save(new Product(1L, "상품명", "설명", 1000, 10, "http://image.url"));
+            productLikeFacade.like(1L, product.getId());
+            productLikeFacade.like(2L, product.getId());
+            productLikeFacade.like(3L, product.getId());
+            productLikeFacade.unlike(2L, product.getId());
+            long beforeFlush = fakeProductRepository.findById(product.getId()).get().getLikeCount();
+
+            // act
+            likeCountFlusher.flush();
+
+            // assert
+            assertAll(
+                () -> assertThat(beforeFlush).isEqualTo(0L),
+                () -> assertThat(fakeProductRepository.findById(product.getId()).get().getLikeCount()).isEqualTo(2L),
+                () -> assertThat(fakeProductLikeOrderRepository.getScore(product.getId())).isEqualTo(2L),
+                () -> assertThat(fakeProductLikeCountBuffer.getOpenBatchCount()).isZero()
+            );
+        }
+
+        @DisplayName("반영 중 종료되어 남은 배치는, 다음 반영 때 이어서 반영된다.")
+        @Test
+        void appliesBatchLeftByStoppedNode() {
+            // arrange
+            Product product = fakeProductRepository.save(new Product(1L, "상품명", "설명", 1000, 10, "http://image.url"));
+            productLikeFacade.like(1L, product.getId());
+            fakeProductLikeCountBuffer.drain();
+            productLikeFacade.like(2L, product.getId());
+
+            // act
+            likeCountFlusher.flush();
+
+            // assert
+            assertAll(
+                () -> assertThat(fakeProductRepository.findById(product.getId()).get().getLikeCount()).isEqualTo(2L),
+                () -> assertThat(fakeProductLikeCountBuffer.getOpenBatchCount()).isZero()
+            );
+        }
+
+        @DisplayName("한 배치의 증감이 임계치 이상이면, 이후 좋아요는 버퍼 대신 슬롯 행에 쓰고 합산 때 상품 행에 반영한다.")
+        @Test
+        void writesToShards_whenProductIsHot() {
+            // arrange
+            Product product = fakeProductRepository.save(new Product(1L, "상품명", "설명", 1000, 10, "http://image.url"));
+            for (long userId = 1; userId <= 50; userId++) {
+                productLikeFacade.like(userId, product.getId());
+            }
+            likeCountFlusher.flush();
+
+            // act
+            for (long userId = 51; userId <= 60; userId++) {
+                productLikeFacade.like(userId, product.getId());
+            }
+            boolean buffered = fakeProductLikeCountBuffer.getPending(product.getId()) != 0;
+            long rowCountBeforeFold = fakeProductRepository.findById(product.getId()).get().getLikeCount();
+            long readCountBeforeFold = productLikeFacade.getLikeInfo(USER_ID, product.getId()).likeCount();
+            likeCountShardFolder.fold();
+
+            // assert
+            assertAll(
+                () -> assertThat(buffered).isFalse(),
+                () -> assertThat(rowCountBeforeFold).isEqualTo(50L),
+                () -> assertThat(readCountBeforeFold).isEqualTo(60L),
+                () -> assertThat(fakeProductRepository.findById(product.getId()).get().getLikeCount()).isEqualTo(60L),
+                () -> assertThat(fakeProductLikeOrderRepository.getScore(product.getId())).isEqualTo(60L),
+                () -> assertThat(fakeProductLikeCountShardRepository.findShardedProductIds()).isEmpty()
+            );
+        }
     }
 }
@@ -0,0 +1,143 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.brand.FakeBrandRepository;
+import com.loopers.domain.product.FakeHotProductRegistry;
+import com.loopers.domain.product.FakeProductLikeCountShardRepository;
+import com.loopers.domain.product.FakeProductRepository;
+import com.loopers.domain.product.ProductLikeCountService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSort;
+import com.loopers.domain.ranking.FakeRankingRepository;
+import com.loopers.domain.ranking.RankingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CatalogCacheWarmerTest {
+
+    private static final int SORT_COUNT = ProductSort.values().length;
+
+    @DisplayName("무효화된 목록을 다시 채울 때,")
+    @Nested
+    class WarmUpInvalidatedLists {
+
+        @DisplayName("여러 번 무효화되어도, 모인 브랜드를 한 번씩만 다시 채운다.")
+        @Test
+        void warmsEachInvalidatedBrandOnce() {
+            // arrange
+            RecordingProductListBlockReader blockReader = new RecordingProductListBlockReader(false);
+            CatalogCacheWarmer warmer = createWarmer(true, Duration.ofSeconds(5), 2, blockReader);
+            warmer.onProductListInvalidated(new ProductListInvalidatedEvent(1L));
+            warmer.onProductListInvalidated(new ProductListInvalidatedEvent(2L));
+            warmer.onProductListInvalidated(new ProductListInvalidatedEvent(1L));
+            warmer.onProductListInvalidated(new ProductListInvalidatedEvent(null));
+
+            // act
+            warmer.warmUpInvalidatedLists();
+            int firstPassCalls = blockReader.calls.size();
+            warmer.warmUpInvalidatedLists();
+
+            // assert
+            assertAll(
+                () -> assertThat(firstPassCalls).isEqualTo(3 * SORT_COUNT),
+                () -> assertThat(blockReader.calls).hasSize(firstPassCalls),
+                () -> assertThat(blockReader.calls).extracting(Call::brandId).containsOnly(null, 1L, 2L),
+                () -> assertThat(blockReader.calls).filteredOn(call -> Long.valueOf(1L).equals(call.brandId())).hasSize(SORT_COUNT)
+            );
+        }
+
+        @DisplayName("비활성화되어 있으면, 무효화 이벤트를 모으지 않는다.")
+        @Test
+        void ignoresEvents_whenDisabled() {
+            // arrange
+            RecordingProductListBlockReader blockReader = new RecordingProductListBlockReader(false);
+            CatalogCacheWarmer warmer = createWarmer(false, Duration.ofSeconds(5), 2, blockReader);
+            warmer.onProductListInvalidated(new ProductListInvalidatedEvent(1L));
+
+            // act
+            warmer.warmUpInvalidatedLists();
+
+            // assert
+            assertThat(blockReader.calls).isEmpty();
+        }
+
+        @DisplayName("timeout 을 넘기면, 실행 중인 작업을 중단하고 남은 작업은 시작하지 않는다.")
+        @Test
+        void cancelsRemainingTasks_whenTimedOut() throws InterruptedException {
+            // arrange
+            RecordingProductListBlockReader blockReader = new RecordingProductListBlockReader(true);
+            CatalogCacheWarmer warmer = createWarmer(true, Duration.ofMillis(100), 1, blockReader);
+            warmer.onProductListInvalidated(new ProductListInvalidatedEvent(1L));
+
+            // act
+            long start = System.nanoTime();
+            warmer.warmUpInvalidatedLists();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // assert
+            assertAll(
+                () -> assertThat(elapsedMillis).isLessThan(5_000L),
+                () -> assertThat(blockReader.interrupted.await(1, TimeUnit.SECONDS)).isTrue(),
+                () -> assertThat(blockReader.calls).hasSize(1)
+            );
+        }
+    }
+
+    private CatalogCacheWarmer createWarmer(
+        boolean enabled, Duration timeout, int concurrency, ProductListBlockReader productListBlockReader
+    ) {
+        FakeProductRepository fakeProductRepository = new FakeProductRepository();
+        ProductService productService = new ProductService(fakeProductRepository);
+        RankingService rankingService = new RankingService(new FakeRankingRepository());
+        ProductDetailReader productDetailReader = new ProductDetailReader(
+            productService, new ProductLikeCountService(
+                fakeProductRepository, new FakeProductLikeCountShardRepository(), new FakeHotProductRegistry()
+            ),
+            new BrandService(new FakeBrandRepository()), rankingService, new ConcurrentMapCacheManager()
+        );
+        // 1페이지 × 20건 = 정렬·브랜드당 블록 1개
+        CatalogWarmUpProperties properties = new CatalogWarmUpProperties(enabled, 10, 10, 1, 20, concurrency, timeout);
+        return new CatalogCacheWarmer(properties, productService, rankingService, productDetailReader, productListBlockReader);
+    }
+
+    private record Call(Long brandId, ProductSort sort, int blockIndex) {
+    }
+
+    // 호출을 기록하고, blocking 이면 인터럽트될 때까지 돌아오지 않는다.
+    private static class RecordingProductListBlockReader extends ProductListBlockReader {
+
+        private final boolean blocking;
+        private final List<Call> calls = new CopyOnWriteArrayList<>();
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        RecordingProductListBlockReader(boolean blocking) {
+            super(null);
+            this.blocking = blocking;
+        }
+
+        @Override
+        public List<ProductInfo> getBlock(Long brandId, ProductSort sort, int blockIndex) {
+            calls.add(new Call(brandId, sort, blockIndex));
+            if (blocking) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.loopers.application.product;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.brand.FakeBrandRepository;
+import com.loopers.domain.product.FakeHotProductRegistry;
+import com.loopers.domain.product.FakeProductLikeCountShardRepository;
+import com.loopers.domain.product.FakeProductRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.ranking.FakeRankingRepository;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.infrastructure.cache.CacheConfig;
+import com.loopers.infrastructure.cache.TwoLevelCache;
+import com.loopers.infrastructure.cache.TwoLevelCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ProductDetailReaderTest {
+
+    private ProductDetailReader productDetailReader;
+    private EvictingProductRepository productRepository;
+    private FakeBrandRepository fakeBrandRepository;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new EvictingProductRepository();
+        fakeBrandRepository = new FakeBrandRepository();
+        cache = new TwoLevelCache(
+            CacheConfig.PRODUCT_DETAIL, new ConcurrentMapCache(CacheConfig.PRODUCT_DETAIL, false),
+            Caffeine.newBuilder().maximumSize(100).build(), (name, key) -> {}, null,
+            new TwoLevelCacheMetrics(new SimpleMeterRegistry(), CacheConfig.PRODUCT_DETAIL), null
+        );
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(cache));
+        cacheManager.afterPropertiesSet();
+
+        ProductService productService = new ProductService(productRepository);
+        productDetailReader = new ProductDetailReader(
+            productService, new ProductLikeCountService(
+                productRepository, new FakeProductLikeCountShardRepository(), new FakeHotProductRegistry()
+            ),
+            new BrandService(fakeBrandRepository), new RankingService(new FakeRankingRepository()), cacheManager
+        );
+    }
+
+    @DisplayName("여러 상품의 상세를 조회할 때,")
+    @Nested
+    class GetProductDetails {
+
+        @DisplayName("캐시에 없던 상품은 DB 에서 읽어 캐시에 채운다.")
+        @Test
+        void cachesLoadedDetails() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Product product = productRepository.save(new Product(brand.getId(), "에어맥스", "운동화", 150000, 20, "http://airmax.url"));
+
+            // act
+            List<ProductInfo> result = productDetailReader.getProductDetails(List.of(product.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(result).extracting(ProductInfo::productName).containsExactly("에어맥스"),
+                () -> assertThat(cache.get(product.getId(), ProductInfo.class)).isNotNull()
+            );
+        }
+
+        @DisplayName("DB 를 읽은 뒤 캐시에 채우기 전에 무효화되면, 읽은 값을 캐시에 채우지 않는다.")
+        @Test
+        void doesNotCache_whenEvictedBetweenReadAndPut() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Product product = productRepository.save(new Product(brand.getId(), "에어맥스", "운동화", 150000, 20, "http://airmax.url"));
+            productRepository.evictAfterRead(cache);
+
+            // act
+            List<ProductInfo> result = productDetailReader.getProductDetails(List.of(product.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(result).extracting(ProductInfo::productName).containsExactly("에어맥스"),
+                () -> assertThat(cache.get(product.getId(), ProductInfo.class)).isNull()
+            );
+        }
+    }
+
+    // 상품을 읽은 직후, 동시에 들어온 수정이 캐시를 무효화한 상황을 만든다.
+    private static class EvictingProductRepository extends FakeProductRepository {
+
+        private TwoLevelCache evictTarget;
+
+        void evictAfterRead(TwoLevelCache cache) {
+            this.evictTarget = cache;
+        }
+
+        @Override
+        public List<Product> findAllByIds(List<Long> ids) {
+            List<Product> products = super.findAllByIds(ids);
+            if (evictTarget != null) {
+                ids.forEach(evictTarget::evict);
+            }
+            return products;
+        }
+    }
+}
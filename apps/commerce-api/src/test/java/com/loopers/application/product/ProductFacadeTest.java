@@ -3,11 +3,22 @@ package com.loopers.application.product;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.brand.FakeBrandRepository;
+import com.loopers.domain.like.FakeLikedProductIndex;
 import com.loopers.domain.like.FakeProductLikeRepository;
 import com.loopers.domain.like.ProductLikeService;
+import com.loopers.domain.product.FakeHotProductRegistry;
+import com.loopers.domain.product.FakeProductChangeBroadcaster;
+import com.loopers.domain.product.FakeProductFacetRepository;
+import com.loopers.domain.product.FakeProductLikeCountShardRepository;
+import com.loopers.domain.product.FakeProductLikeOrderRepository;
+import com.loopers.domain.product.FakeProductListGenerationRepository;
 import com.loopers.domain.product.FakeProductRepository;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountService;
+import com.loopers.domain.product.ProductPriceRange;
+import com.loopers.domain.product.ProductSearchIndex;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductSort;
 import com.loopers.domain.ranking.FakeRankingRepository;
 import com.loopers.domain.ranking.RankingService;
 import com.loopers.support.error.CoreException;
@@ -16,6 +27,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -28,6 +46,9 @@ class ProductFacadeTest {
     private FakeProductRepository fakeProductRepository;
     private FakeProductLikeRepository fakeProductLikeRepository;
     private ProductLikeService productLikeService;
+    private FakeProductListGenerationRepository fakeProductListGenerationRepository;
+    private FakeProductFacetRepository fakeProductFacetRepository;
+    private FakeRankingRepository fakeRankingRepository;
 
     private static final Long USER_ID = 1L;
 
@@ -36,13 +57,31 @@ class ProductFacadeTest {
         fakeBrandRepository = new FakeBrandRepository();
         fakeProductRepository = new FakeProductRepository();
         fakeProductLikeRepository = new FakeProductLikeRepository();
+        fakeProductListGenerationRepository = new FakeProductListGenerationRepository();
+        fakeProductFacetRepository = new FakeProductFacetRepository();
 
         BrandService brandService = new BrandService(fakeBrandRepository);
         ProductService productService = new ProductService(fakeProductRepository);
-        productLikeService = new ProductLikeService(fakeProductLikeRepository);
-        RankingService rankingService = new RankingService(new FakeRankingRepository());
+        productLikeService = new ProductLikeService(fakeProductLikeRepository, new FakeLikedProductIndex());
+        fakeRankingRepository = new FakeRankingRepository();
+        RankingService rankingService = new RankingService(fakeRankingRepository);
+
+        ProductDetailReader productDetailReader = new ProductDetailReader(
+            productService, new ProductLikeCountService(
+                fakeProductRepository, new FakeProductLikeCountShardRepository(), new FakeHotProductRegistry()
+            ),
+            brandService, rankingService, new ConcurrentMapCacheManager()
+        );
 
-        productFacade = new ProductFacade(productService, brandService, productLikeService, rankingService);
+        ProductListBlockReader productListBlockReader = new ProductListBlockReader(productService);
+        ProductSearchIndexer productSearchIndexer = new ProductSearchIndexer(
+            productService, brandService, new ProductSearchIndex(), new FakeProductChangeBroadcaster()
+        );
+        productFacade = new ProductFacade(
+            productService, brandService, productLikeService, rankingService, productDetailReader, productListBlockReader,
+            fakeProductListGenerationRepository, new FakeProductLikeOrderRepository(), fakeProductFacetRepository,
+            productSearchIndexer, event -> {}
+        );
     }
 
     @DisplayName("상품 상세 조회 시,")
@@ -58,6 +97,8 @@ class ProductFacadeTest {
 
             productLikeService.like(USER_ID, product.getId());
             productLikeService.like(2L, product.getId());
+            product.increaseLikeCount();
+            product.increaseLikeCount();
 
             // act
             ProductInfo result = productFacade.getProductDetail(product.getId(), USER_ID);
@@ -99,6 +140,7 @@ class ProductFacadeTest {
             Product product = fakeProductRepository.save(new Product(brand.getId(), "슈퍼스타", "클래식 운동화", 120000, 30, "http://superstar.url"));
 
             productLikeService.like(2L, product.getId());
+            product.increaseLikeCount();
 
             // act
             ProductInfo result = productFacade.getProductDetail(product.getId(), USER_ID);
@@ -110,4 +152,285 @@ class ProductFacadeTest {
             );
         }
     }
+
+    @DisplayName("상품 상세 본문과 사용자별 정보를 조합할 때,")
+    @Nested
+    class ComposeDetail {
+
+        @DisplayName("공유 본문은 사용자와 무관하게 liked 가 false 이고, 조회한 사용자에게만 liked 가 덧씌워진다.")
+        @Test
+        void overlaysLikedOnlyForRequestingUser() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Product product = fakeProductRepository.save(new Product(brand.getId(), "에어맥스", "운동화", 150000, 20, "http://airmax.url"));
+            productLikeService.like(USER_ID, product.getId());
+
+            // act
+            ProductInfo anonymous = productFacade.getProductDetail(product.getId(), null);
+            ProductInfo liker = productFacade.getProductDetail(product.getId(), USER_ID);
+            ProductInfo other = productFacade.getProductDetail(product.getId(), 2L);
+
+            // assert
+            assertAll(
+                () -> assertThat(anonymous.liked()).isFalse(),
+                () -> assertThat(liker.liked()).isTrue(),
+                () -> assertThat(other.liked()).isFalse(),
+                () -> assertThat(liker.likeCount()).isEqualTo(anonymous.likeCount())
+            );
+        }
+    }
+
+    @DisplayName("상품 목록 조회 시,")
+    @Nested
+    class GetProducts {
+
+        @DisplayName("블록 경계에 걸친 페이지도 요청한 구간만 순서대로 반환한다.")
+        @Test
+        void slicesAcrossBlockBoundary() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            for (int i = 1; i <= 130; i++) {
+                fakeProductRepository.save(new Product(brand.getId(), "상품" + i, "설명", i * 100, 10, "http://image.url"));
+            }
+
+            // act
+            List<ProductInfo> crossing = productFacade.getProducts(null, ProductSort.PRICE_ASC, 3, 30);
+            List<ProductInfo> last = productFacade.getProducts(null, ProductSort.PRICE_ASC, 4, 30);
+
+            // assert
+            assertAll(
+                () -> assertThat(crossing).extracting(ProductInfo::price)
+                    .containsExactlyElementsOf(IntStream.rangeClosed(91, 120).map(i -> i * 100).boxed().toList()),
+                () -> assertThat(last).extracting(ProductInfo::price)
+                    .containsExactlyElementsOf(IntStream.rangeClosed(121, 130).map(i -> i * 100).boxed().toList())
+            );
+        }
+
+        @DisplayName("가격 조건이 있으면, 구간 안(양 끝 포함)의 상품만 반환한다.")
+        @Test
+        void filtersByPriceRange() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            for (int i = 1; i <= 10; i++) {
+                fakeProductRepository.save(new Product(brand.getId(), "상품" + i, "설명", i * 1000, 10, "http://image.url"));
+            }
+
+            // act
+            List<ProductInfo> result = productFacade.getProducts(
+                null, ProductPriceRange.of(3000, 5000), ProductSort.PRICE_ASC, 0, 20
+            );
+
+            // assert
+            assertThat(result).extracting(ProductInfo::price).containsExactly(3000, 4000, 5000);
+        }
+
+        @DisplayName("사용자 ID 가 주어지면, 목록의 liked 를 사용자 좋아요 여부로 채운다.")
+        @Test
+        void overlaysLiked_whenUserIdGiven() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Product cheap = fakeProductRepository.save(new Product(brand.getId(), "양말", "설명", 1000, 10, "http://image.url"));
+            fakeProductRepository.save(new Product(brand.getId(), "모자", "설명", 2000, 10, "http://image.url"));
+            productLikeService.like(USER_ID, cheap.getId());
+
+            // act
+            List<ProductInfo> result = productFacade.getProducts(null, ProductPriceRange.ALL, ProductSort.PRICE_ASC, 0, 20, USER_ID);
+
+            // assert
+            assertThat(result).extracting(ProductInfo::liked).containsExactly(true, false);
+        }
+
+        @DisplayName("오늘 랭킹에 있는 상품은 목록에 순위가 채워지고, 없는 상품은 null 이다.")
+        @Test
+        void overlaysTodayRanks() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Product ranked = fakeProductRepository.save(new Product(brand.getId(), "양말", "설명", 1000, 10, "http://image.url"));
+            fakeProductRepository.save(new Product(brand.getId(), "모자", "설명", 2000, 10, "http://image.url"));
+            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            fakeRankingRepository.setScore(today, ranked.getId(), 10.0);
+
+            // act
+            List<ProductInfo> result = productFacade.getProducts(null, ProductSort.PRICE_ASC, 0, 20);
+
+            // assert
+            assertThat(result).extracting(ProductInfo::rank).containsExactly(1L, null);
+        }
+
+        @DisplayName("최소 가격이 최대 가격보다 크면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenPriceRangeInverted() {
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> ProductPriceRange.of(5000, 3000));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("상품 목록 전체 건수 조회 시,")
+    @Nested
+    class CountProducts {
+
+        @DisplayName("삭제된 상품을 제외한 전체/브랜드별 건수를 카운터에서 반환한다.")
+        @Test
+        void returnsCountsExcludingDeleted() {
+            // arrange
+            Brand nike = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Brand adidas = fakeBrandRepository.save(new Brand("아디다스", "스포츠 브랜드", "http://adidas.url"));
+            ProductInfo airmax = productFacade.registerProduct(nike.getId(), "에어맥스", "운동화", 150000, 20, "http://airmax.url");
+            productFacade.registerProduct(nike.getId(), "조던", "농구화", 200000, 10, "http://jordan.url");
+            productFacade.registerProduct(adidas.getId(), "울트라부스트", "러닝화", 180000, 20, "http://boost.url");
+
+            // act
+            productFacade.deleteProduct(airmax.productId());
+
+            // assert
+            assertAll(
+                () -> assertThat(productFacade.countProducts(null, ProductPriceRange.ALL)).isEqualTo(2L),
+                () -> assertThat(productFacade.countProducts(nike.getId(), ProductPriceRange.ALL)).isEqualTo(1L),
+                () -> assertThat(productFacade.countProducts(null, ProductPriceRange.of(0, 100000))).isNull()
+            );
+        }
+    }
+
+    @DisplayName("상품 패싯 조회 시,")
+    @Nested
+    class GetProductFacets {
+
+        @DisplayName("등록/수정/삭제로 갱신된 카운터를 브랜드별, 가격 구간별로 반환한다.")
+        @Test
+        void reflectsProductWrites() {
+            // arrange
+            Brand nike = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Brand adidas = fakeBrandRepository.save(new Brand("아디다스", "스포츠 브랜드", "http://adidas.url"));
+            ProductInfo airmax = productFacade.registerProduct(nike.getId(), "에어맥스", "운동화", 150000, 20, "http://airmax.url");
+            productFacade.registerProduct(nike.getId(), "양말", "양말", 5000, 20, "http://socks.url");
+            ProductInfo boost = productFacade.registerProduct(adidas.getId(), "울트라부스트", "러닝화", 180000, 20, "http://boost.url");
+
+            // act
+            productFacade.updateProduct(airmax.productId(), "에어맥스", "운동화", 20000, 20, "http://airmax.url");
+            productFacade.deleteProduct(boost.productId());
+            productFacade.deleteProduct(boost.productId());
+            ProductFacetInfo all = productFacade.getProductFacets(null);
+            ProductFacetInfo nikeOnly = productFacade.getProductFacets(nike.getId());
+
+            // assert
+            assertAll(
+                () -> assertThat(all.brands()).containsExactly(new ProductFacetInfo.BrandFacet(nike.getId(), "나이키", 2L)),
+                () -> assertThat(all.priceRanges()).extracting(ProductFacetInfo.PriceFacet::count)
+                    .containsExactly(1L, 1L, 0L, 0L, 0L),
+                () -> assertThat(nikeOnly.priceRanges()).extracting(ProductFacetInfo.PriceFacet::count)
+                    .containsExactly(1L, 1L, 0L, 0L, 0L)
+            );
+        }
+    }
+
+    @DisplayName("상품 여러 건을 한 번에 조회할 때,")
+    @Nested
+    class GetProductDetails {
+
+        @DisplayName("요청 순서대로 반환하고, 존재하지 않는 상품은 제외하며, 사용자별 liked 를 덧씌운다.")
+        @Test
+        void returnsDetailsInRequestOrder_withLikedOverlay() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Product first = fakeProductRepository.save(new Product(brand.getId(), "에어맥스", "운동화", 150000, 20, "http://airmax.url"));
+            Product second = fakeProductRepository.save(new Product(brand.getId(), "조던", "농구화", 200000, 10, "http://jordan.url"));
+            productLikeService.like(USER_ID, second.getId());
+            productFacade.getProductDetail(first.getId(), null);
+
+            // act
+            List<ProductInfo> result = productFacade.getProductDetails(List.of(second.getId(), 999L, first.getId(), second.getId()), USER_ID);
+
+            // assert
+            assertAll(
+                () -> assertThat(result).extracting(ProductInfo::productId).containsExactly(second.getId(), first.getId()),
+                () -> assertThat(result).extracting(ProductInfo::liked).containsExactly(true, false),
+                () -> assertThat(result.get(0).brandName()).isEqualTo("나이키")
+            );
+        }
+
+        @DisplayName("50개를 초과해 요청하면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenTooManyIds() {
+            // arrange
+            List<Long> ids = LongStream.rangeClosed(1, 51).boxed().toList();
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> productFacade.getProductDetails(ids, null));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("상품 수정 시,")
+    @Nested
+    class UpdateProduct {
+
+        @DisplayName("해당 브랜드와 전체 목록 캐시 세대만 증가한다.")
+        @Test
+        void increasesOnlyOwnBrandAndGlobalGeneration() {
+            // arrange
+            Brand nike = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            Brand adidas = fakeBrandRepository.save(new Brand("아디다스", "스포츠 브랜드", "http://adidas.url"));
+            Product product = fakeProductRepository.save(new Product(nike.getId(), "에어맥스", "운동화", 150000, 20, "http://airmax.url"));
+
+            // act
+            productFacade.updateProduct(product.getId(), "에어맥스 90", "운동화", 160000, 20, "http://airmax.url");
+
+            // assert
+            assertAll(
+                () -> assertThat(fakeProductListGenerationRepository.getBrandGeneration(nike.getId())).isEqualTo(1L),
+                () -> assertThat(fakeProductListGenerationRepository.getBrandGeneration(adidas.getId())).isEqualTo(0L),
+                () -> assertThat(fakeProductListGenerationRepository.getGlobalGeneration()).isEqualTo(1L)
+            );
+        }
+    }
+
+    @DisplayName("커서 기반 상품 목록 조회 시,")
+    @Nested
+    class GetProductsByCursor {
+
+        @DisplayName("다음 커서로 이어서 조회하면, 중복이나 누락 없이 다음 페이지가 반환된다.")
+        @Test
+        void returnsNextPage_withoutDuplicates() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            fakeProductRepository.save(new Product(brand.getId(), "상품1", "설명", 10000, 10, "http://1.url"));
+            fakeProductRepository.save(new Product(brand.getId(), "상품2", "설명", 20000, 10, "http://2.url"));
+            fakeProductRepository.save(new Product(brand.getId(), "상품3", "설명", 20000, 10, "http://3.url"));
+
+            // act
+            ProductCursorInfo first = productFacade.getProductsByCursor(null, ProductSort.PRICE_ASC, null, 2);
+            ProductCursorInfo second = productFacade.getProductsByCursor(null, ProductSort.PRICE_ASC, first.nextCursor(), 2);
+
+            // assert
+            assertAll(
+                () -> assertThat(first.products()).extracting(ProductInfo::productName).containsExactly("상품1", "상품2"),
+                () -> assertThat(first.hasNext()).isTrue(),
+                () -> assertThat(second.products()).extracting(ProductInfo::productName).containsExactly("상품3"),
+                () -> assertThat(second.hasNext()).isFalse()
+            );
+        }
+
+        @DisplayName("정렬 기준이 다른 커서를 전달하면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenCursorSortMismatch() {
+            // arrange
+            Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+            fakeProductRepository.save(new Product(brand.getId(), "상품1", "설명", 10000, 10, "http://1.url"));
+            fakeProductRepository.save(new Product(brand.getId(), "상품2", "설명", 20000, 10, "http://2.url"));
+            String cursor = productFacade.getProductsByCursor(null, ProductSort.PRICE_ASC, null, 1).nextCursor();
+
+            // act
+            CoreException result = assertThrows(CoreException.class, () ->
+                productFacade.getProductsByCursor(null, ProductSort.LIKES_DESC, cursor, 1)
+            );
+
+            // assert
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.FakeProductLikeOrderRepository;
+import com.loopers.domain.product.FakeProductRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ProductLikeOrderRebuilderTest {
+
+    private ProductLikeOrderRebuilder productLikeOrderRebuilder;
+    private FakeProductRepository fakeProductRepository;
+    private FakeProductLikeOrderRepository fakeProductLikeOrderRepository;
+
+    @BeforeEach
+    void setUp() {
+        fakeProductRepository = new FakeProductRepository();
+        fakeProductLikeOrderRepository = new FakeProductLikeOrderRepository();
+        productLikeOrderRebuilder = new ProductLikeOrderRebuilder(
+            new ProductService(fakeProductRepository), fakeProductLikeOrderRepository
+        );
+    }
+
+    @DisplayName("삭제되지 않은 상품의 좋아요 수로 전체/브랜드 인덱스를 다시 만들고, 조회에 사용할 수 있게 된다.")
+    @Test
+    void rebuildsIndexFromLikeCounts() {
+        // arrange
+        Product popular = fakeProductRepository.save(new Product(1L, "상품1", "설명", 1000, 10, "http://1.url"));
+        Product other = fakeProductRepository.save(new Product(2L, "상품2", "설명", 1000, 10, "http://2.url"));
+        Product deleted = fakeProductRepository.save(new Product(1L, "상품3", "설명", 1000, 10, "http://3.url"));
+        popular.increaseLikeCount();
+        popular.increaseLikeCount();
+        other.increaseLikeCount();
+        deleted.increaseLikeCount();
+        deleted.delete();
+
+        // act
+        int indexed = productLikeOrderRebuilder.rebuild();
+
+        // assert
+        assertAll(
+            () -> assertThat(indexed).isEqualTo(2),
+            () -> assertThat(fakeProductLikeOrderRepository.isReady()).isTrue(),
+            () -> assertThat(fakeProductLikeOrderRepository.findProductIds(null, 0, 10)).containsExactly(popular.getId(), other.getId()),
+            () -> assertThat(fakeProductLikeOrderRepository.findProductIds(1L, 0, 10)).containsExactly(popular.getId())
+        );
+    }
+
+    @DisplayName("적재할 상품이 없으면, 조회 중인 인덱스를 지우지 않는다.")
+    @Test
+    void keepsLiveIndex_whenNothingStaged() {
+        // arrange
+        fakeProductLikeOrderRepository.put(1L, 10L, 3L);
+
+        // act
+        int indexed = productLikeOrderRebuilder.rebuild();
+
+        // assert
+        assertAll(
+            () -> assertThat(indexed).isZero(),
+            () -> assertThat(fakeProductLikeOrderRepository.findProductIds(null, 0, 10)).containsExactly(10L)
+        );
+    }
+}
@@ -0,0 +1,171 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.brand.FakeBrandRepository;
+import com.loopers.domain.like.FakeLikedProductIndex;
+import com.loopers.domain.like.FakeProductLikeRepository;
+import com.loopers.domain.like.ProductLikeService;
+import com.loopers.domain.product.FakeProductRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.ranking.FakeRankingPageRefreshLock;
+import com.loopers.domain.ranking.FakeRankingRepository;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.infrastructure.cache.CacheConfig;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RankingFacadeTest {
+
+    private static final String TODAY = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+    private RankingFacade rankingFacade;
+    private FakeRankingRepository fakeRankingRepository;
+    private FakeProductRepository fakeProductRepository;
+    private FakeBrandRepository fakeBrandRepository;
+    private FakeRankingPageRefreshLock fakeRankingPageRefreshLock;
+    private ConcurrentMapCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        fakeRankingRepository = new FakeRankingRepository();
+        fakeProductRepository = new FakeProductRepository();
+        fakeBrandRepository = new FakeBrandRepository();
+        fakeRankingPageRefreshLock = new FakeRankingPageRefreshLock();
+        cacheManager = new ConcurrentMapCacheManager();
+
+        rankingFacade = new RankingFacade(
+            new RankingService(fakeRankingRepository),
+            new ProductService(fakeProductRepository),
+            new BrandService(fakeBrandRepository),
+            (date, page, size) -> List.of(),
+            (date, page, size) -> List.of(),
+            new ProductLikeService(new FakeProductLikeRepository(), new FakeLikedProductIndex()),
+            cacheManager,
+            fakeRankingPageRefreshLock
+        );
+    }
+
+    // 점수가 높은 순으로 오늘 랭킹에 상품을 올린다.
+    private List<Long> rankProducts(int count) {
+        Brand brand = fakeBrandRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Product product = fakeProductRepository.save(new Product(brand.getId(), "상품" + i, "설명", 1000, 10, "http://image.url"));
+            fakeRankingRepository.setScore(TODAY, product.getId(), count - i);
+            productIds.add(product.getId());
+        }
+        return productIds;
+    }
+
+    private Cache rankingPageCache() {
+        return cacheManager.getCache(CacheConfig.RANKING_PAGE);
+    }
+
+    private static String pageKey(String period, int page, int size) {
+        return period + ":" + TODAY + ":" + page + ":" + size;
+    }
+
+    @DisplayName("랭킹 조회 시,")
+    @Nested
+    class GetTopRankings {
+
+        @DisplayName("캐시에 있는 페이지는 랭킹 저장소를 조회하지 않고 반환한다.")
+        @Test
+        void returnsCachedPage_withoutRepository() {
+            // arrange
+            List<Long> productIds = rankProducts(3);
+            List<RankingInfo> first = rankingFacade.getTopRankings(TODAY, 0, 20, "daily");
+
+            // act
+            List<RankingInfo> second = rankingFacade.getTopRankings(TODAY, 0, 20, "daily");
+
+            // assert
+            assertAll(
+                () -> assertThat(second).isEqualTo(first),
+                () -> assertThat(second).extracting(RankingInfo::productId).containsExactlyElementsOf(productIds),
+                () -> assertThat(fakeRankingRepository.getTopProductsCallCount()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("period 가 올바르지 않으면, 캐시를 사용하기 전에 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_beforeCache_whenPeriodIsInvalid() {
+            // act
+            CoreException result = assertThrows(CoreException.class, () ->
+                rankingFacade.getTopRankings(TODAY, 0, 20, "yearly")
+            );
+
+            // assert
+            assertAll(
+                () -> assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(cacheManager.getCacheNames()).isEmpty(),
+                () -> assertThat(fakeRankingRepository.getTopProductsCallCount()).isZero()
+            );
+        }
+    }
+
+    @DisplayName("캐시된 페이지 갱신 시,")
+    @Nested
+    class RefreshCachedPages {
+
+        @DisplayName("잠금을 얻지 못하면, 아무것도 갱신하지 않는다.")
+        @Test
+        void refreshesNothing_whenLockNotAcquired() {
+            // arrange
+            rankProducts(3);
+            fakeRankingPageRefreshLock.setAvailable(false);
+
+            // act
+            int result = rankingFacade.refreshCachedPages();
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isZero(),
+                () -> assertThat(fakeRankingPageRefreshLock.getAcquireCallCount()).isEqualTo(1),
+                () -> assertThat(fakeRankingRepository.getTopProductsCallCount()).isZero(),
+                () -> assertThat(rankingPageCache().get(pageKey("daily", 0, 20))).isNull()
+            );
+        }
+
+        @DisplayName("낡은 페이지를 덮어쓰고, 꽉 차지 않은 페이지에서 멈춘다.")
+        @Test
+        @SuppressWarnings("unchecked")
+        void overwritesStalePages_andStopsAtShortPage() {
+            // arrange
+            List<Long> productIds = rankProducts(25);
+            rankingPageCache().put(pageKey("daily", 0, 20), List.of());
+
+            // act
+            int result = rankingFacade.refreshCachedPages();
+
+            // assert
+            List<RankingInfo> firstPage = rankingPageCache().get(pageKey("daily", 0, 20), List.class);
+            List<RankingInfo> secondPage = rankingPageCache().get(pageKey("daily", 1, 20), List.class);
+            assertAll(
+                // daily 2페이지 + weekly/monthly 빈 1페이지씩
+                () -> assertThat(result).isEqualTo(4),
+                () -> assertThat(firstPage).extracting(RankingInfo::productId).containsExactlyElementsOf(productIds.subList(0, 20)),
+                () -> assertThat(secondPage).extracting(RankingInfo::productId).containsExactlyElementsOf(productIds.subList(20, 25)),
+                () -> assertThat(rankingPageCache().get(pageKey("daily", 2, 20))).isNull(),
+                () -> assertThat(fakeRankingRepository.getTopProductsCallCount()).isEqualTo(2)
+            );
+        }
+    }
+}
@@ -122,7 +122,7 @@ class BrandServiceTest {
     @Nested
     class UpdateBrand {
 
-        @DisplayName("유효한 정보로 수정하면, 브랜드가 수정된다.")
+        @DisplayName("유효한 정보로 수정하면, 브랜드가 수정되고 스냅샷 무효화를 알린다.")
         @Test
         void updatesBrand_whenValidInfoIsProvided() {
             // arrange
@@ -135,7 +135,8 @@ class BrandServiceTest {
             assertAll(
                 () -> assertThat(result.getName()).isEqualTo("아디다스"),
                 () -> assertThat(result.getDescription()).isEqualTo("새 설명"),
-                () -> assertThat(result.getImageUrl()).isEqualTo("https://new.com/image.png")
+                () -> assertThat(result.getImageUrl()).isEqualTo("https://new.com/image.png"),
+                () -> assertThat(((FakeBrandRepository) brandRepository).getSnapshotInvalidations()).isEqualTo(2)
             );
         }
 
@@ -12,6 +12,7 @@ public class FakeBrandRepository implements BrandRepository {
 
     private final Map<Long, Brand> store = new HashMap<>();
     private Long sequence = 1L;
+    private int snapshotInvalidations = 0;
 
     @Override
     public Brand save(Brand brand) {
@@ -51,4 +52,23 @@ public class FakeBrandRepository implements BrandRepository {
             .filter(brand -> ids.contains(brand.getId()))
             .toList();
     }
+
+    @Override
+    public Optional<Brand> findSnapshotById(Long id) {
+        return findById(id);
+    }
+
+    @Override
+    public List<Brand> findSnapshotsByIds(List<Long> ids) {
+        return findAllByIds(ids);
+    }
+
+    @Override
+    public void invalidateSnapshot() {
+        snapshotInvalidations++;
+    }
+
+    public int getSnapshotInvalidations() {
+        return snapshotInvalidations;
+    }
 }
@@ -0,0 +1,53 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class FakeLikedProductIndex implements LikedProductIndex {
+
+    private final Map<Long, Set<Long>> store = new HashMap<>();
+    private final Set<Long> loadedUserIds = new HashSet<>();
+
+    @Override
+    public Optional<Set<Long>> findLiked(Long userId, List<Long> productIds) {
+        if (!loadedUserIds.contains(userId)) {
+            return Optional.empty();
+        }
+        Set<Long> liked = new HashSet<>(productIds);
+        liked.retainAll(store.getOrDefault(userId, Set.of()));
+        return Optional.of(liked);
+    }
+
+    @Override
+    public void load(Long userId, Collection<Long> likedProductIds) {
+        store.computeIfAbsent(userId, k -> new HashSet<>()).addAll(likedProductIds);
+        loadedUserIds.add(userId);
+    }
+
+    @Override
+    public void add(Long userId, Long productId) {
+        if (loadedUserIds.contains(userId)) {
+            store.get(userId).add(productId);
+        }
+    }
+
+    @Override
+    public void remove(Long userId, Long productId) {
+        store.getOrDefault(userId, new HashSet<>()).remove(productId);
+    }
+
+    @Override
+    public void evict(Long userId) {
+        store.remove(userId);
+        loadedUserIds.remove(userId);
+    }
+
+    public boolean isLoaded(Long userId) {
+        return loadedUserIds.contains(userId);
+    }
+}
@@ -30,11 +30,12 @@ public class FakeProductLikeRepository implements ProductLikeRepository {
     }
 
     @Override
-    public void deleteByUserIdAndProductId(Long userId, Long productId) {
-        store.values().stream()
+    public long deleteByUserIdAndProductId(Long userId, Long productId) {
+        Optional<ProductLike> found = store.values().stream()
             .filter(like -> like.getUserId().equals(userId) && like.getProductId().equals(productId))
-            .findFirst()
-            .ifPresent(like -> store.remove(like.getId()));
+            .findFirst();
+        found.ifPresent(like -> store.remove(like.getId()));
+        return found.isPresent() ? 1 : 0;
     }
 
     @Override
@@ -45,9 +46,38 @@ public class FakeProductLikeRepository implements ProductLikeRepository {
     }
 
     @Override
-    public List<ProductLike> findAllByUserId(Long userId) {
+    public Map<Long, Long> countByProductIds(List<Long> productIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (ProductLike like : store.values()) {
+            if (productIds.contains(like.getProductId())) {
+                counts.merge(like.getProductId(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public List<ProductLike> findPageByUserId(Long userId, Long lastId, int size) {
+        return store.values().stream()
+            .filter(like -> like.getUserId().equals(userId) && (lastId == null || like.getId() < lastId))
+            .sorted((a, b) -> Long.compare(b.getId(), a.getId()))
+            .limit(size)
+            .toList();
+    }
+
+    @Override
+    public List<Long> findLikedProductIds(Long userId, List<Long> productIds) {
+        return store.values().stream()
+            .filter(like -> like.getUserId().equals(userId) && productIds.contains(like.getProductId()))
+            .map(ProductLike::getProductId)
+            .toList();
+    }
+
+    @Override
+    public List<Long> findProductIdsByUserId(Long userId) {
         return store.values().stream()
             .filter(like -> like.getUserId().equals(userId))
+            .map(ProductLike::getProductId)
             .toList();
     }
 }
@@ -0,0 +1,85 @@
+package com.loopers.domain.like;
+
+import com.loopers.application.like.ProductLikeFacade;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 좋아요 수 버퍼(Redis)에 쌓지 못할 때, 커밋 이후 리스너가 바로 반영한 좋아요 수가 실제로 저장되는지 검증한다.
+ */
+@SpringBootTest
+class LikeCountBufferFallbackIntegrationTest {
+
+    @Autowired
+    private ProductLikeFacade productLikeFacade;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @MockitoBean
+    private ProductLikeCountBuffer productLikeCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        doThrow(new RedisConnectionFailureException("redis down"))
+            .when(productLikeCountBuffer).add(anyLong(), anyLong());
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("버퍼 적재가 실패해도, 좋아요와 취소가 like_count 에 바로 반영된다.")
+    @Test
+    void appliesLikeCountDirectly_whenBufferFails() {
+        // arrange
+        Long productId = createProduct();
+
+        // act
+        productLikeFacade.like(1L, productId);
+        productLikeFacade.like(2L, productId);
+        long afterLikes = productJpaRepository.findById(productId).get().getLikeCount();
+        productLikeFacade.unlike(1L, productId);
+
+        // assert
+        assertAll(
+            () -> assertThat(afterLikes).isEqualTo(2L),
+            () -> assertThat(productJpaRepository.findById(productId).get().getLikeCount()).isEqualTo(1L)
+        );
+    }
+
+    private Long createProduct() {
+        Brand brand = brandJpaRepository.save(new Brand("브랜드", "설명", "http://brand.url"));
+        Product product = productJpaRepository.save(new Product(brand.getId(), "상품", "설명", 1000, 10, "http://product.url"));
+        return product.getId();
+    }
+}
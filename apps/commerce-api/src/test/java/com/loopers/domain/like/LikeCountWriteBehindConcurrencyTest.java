@@ -0,0 +1,135 @@
+package com.loopers.domain.like;
+
+import com.loopers.application.like.LikeCountFlusher;
+import com.loopers.application.like.ProductLikeFacade;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 한 상품에 좋아요가 몰릴 때, 행 잠금으로 즉시 반영하는 방식과 버퍼에 모아 반영하는 방식을 비교한다.
+ * 소요 시간은 환경에 따라 달라 로그로만 남기고, 최종 좋아요 수의 정확성을 검증한다.
+ */
+@Slf4j
+@SpringBootTest
+class LikeCountWriteBehindConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 200;
+    private static final int THREAD_COUNT = 50;
+
+    @Autowired
+    private ProductLikeFacade productLikeFacade;
+
+    @Autowired
+    private LikeCountFlusher likeCountFlusher;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("여러 사용자가 동시에 같은 상품에 좋아요를 누르면, 반영 후 좋아요 수가 정확히 요청 수와 같다.")
+    @Test
+    void appliesExactLikeCount_whenManyUsersLikeConcurrently() throws InterruptedException {
+        // arrange
+        Long productId = createProduct();
+
+        // act
+        long elapsedMs = runConcurrently(userId -> productLikeFacade.like(userId, productId));
+        likeCountFlusher.flush();
+
+        // assert
+        log.info("write-behind 좋아요 {}건 처리: {}ms", REQUEST_COUNT, elapsedMs);
+        assertAll(
+            () -> assertThat(productJpaRepository.findById(productId).get().getLikeCount()).isEqualTo(REQUEST_COUNT),
+            () -> assertThat(productLikeFacade.getLikeInfo(1L, productId).likeCount()).isEqualTo(REQUEST_COUNT)
+        );
+    }
+
+    @DisplayName("행 잠금으로 즉시 반영하는 방식과 비교해도, 두 방식의 최종 좋아요 수는 같다.")
+    @Test
+    void comparesWithRowLockPerLike() throws InterruptedException {
+        // arrange
+        Long rowLockProductId = createProduct();
+        Long bufferedProductId = createProduct();
+
+        // act
+        long rowLockMs = runConcurrently(userId -> productService.increaseLikeCount(rowLockProductId));
+        long bufferedMs = runConcurrently(userId -> productLikeFacade.like(userId, bufferedProductId));
+        likeCountFlusher.flush();
+
+        // assert
+        log.info("좋아요 {}건 처리 - 행 잠금: {}ms, write-behind: {}ms", REQUEST_COUNT, rowLockMs, bufferedMs);
+        assertAll(
+            () -> assertThat(productJpaRepository.findById(rowLockProductId).get().getLikeCount()).isEqualTo(REQUEST_COUNT),
+            () -> assertThat(productJpaRepository.findById(bufferedProductId).get().getLikeCount()).isEqualTo(REQUEST_COUNT)
+        );
+    }
+
+    private Long createProduct() {
+        Brand brand = brandJpaRepository.save(new Brand("브랜드", "설명", "http://brand.url"));
+        Product product = productJpaRepository.save(new Product(brand.getId(), "상품", "설명", 1000, 10, "http://product.url"));
+        return product.getId();
+    }
+
+    private long runConcurrently(LongConsumer likeByUser) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            long userId = i + 1L;
+            executor.submit(() -> {
+                try {
+                    likeByUser.accept(userId);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedMs = System.currentTimeMillis() - start;
+        executor.shutdown();
+
+        assertThat(failCount.get()).isZero();
+        return elapsedMs;
+    }
+}
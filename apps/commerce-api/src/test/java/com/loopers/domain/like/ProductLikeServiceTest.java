@@ -7,7 +7,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class ProductLikeServiceTest {
@@ -15,6 +19,7 @@ class ProductLikeServiceTest {
     private ProductLikeService productLikeService;
     private FakeProductLikeRepository fakeProductLikeRepository;
     private FakeProductRepository fakeProductRepository;
+    private FakeLikedProductIndex fakeLikedProductIndex;
 
     private static final Long USER_ID = 1L;
     private Long PRODUCT_ID;
@@ -23,7 +28,8 @@ class ProductLikeServiceTest {
     void setUp() {
         fakeProductLikeRepository = new FakeProductLikeRepository();
         fakeProductRepository = new FakeProductRepository();
-        productLikeService = new ProductLikeService(fakeProductLikeRepository);
+        fakeLikedProductIndex = new FakeLikedProductIndex();
+        productLikeService = new ProductLikeService(fakeProductLikeRepository, fakeLikedProductIndex);
 
         Product product = fakeProductRepository.save(new Product(1L, "테스트상품", "설명", 1000, 10, null));
         PRODUCT_ID = product.getId();
@@ -141,4 +147,29 @@ class ProductLikeServiceTest {
             assertThat(productLikeService.isLiked(USER_ID, PRODUCT_ID)).isFalse();
         }
     }
+
+    @DisplayName("여러 상품의 좋아요 여부를 조회할 때,")
+    @Nested
+    class GetLikedProductIds {
+
+        @DisplayName("사용자 집합이 없으면 DB 에서 채우고, 이후에는 집합에서 확인한다.")
+        @Test
+        void loadsIndexOnMiss_andReadsFromIndexAfterwards() {
+            // arrange
+            Product other = fakeProductRepository.save(new Product(1L, "다른상품", "설명", 2000, 10, null));
+            productLikeService.like(USER_ID, PRODUCT_ID);
+
+            // act
+            Set<Long> first = productLikeService.getLikedProductIds(USER_ID, List.of(PRODUCT_ID, other.getId()));
+            fakeProductLikeRepository.deleteByUserIdAndProductId(USER_ID, PRODUCT_ID);
+            Set<Long> second = productLikeService.getLikedProductIds(USER_ID, List.of(PRODUCT_ID, other.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(first).containsExactly(PRODUCT_ID),
+                () -> assertThat(fakeLikedProductIndex.isLoaded(USER_ID)).isTrue(),
+                () -> assertThat(second).containsExactly(PRODUCT_ID)
+            );
+        }
+    }
 }
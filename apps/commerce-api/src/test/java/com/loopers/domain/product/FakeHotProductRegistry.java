@@ -0,0 +1,21 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class FakeHotProductRegistry implements HotProductRegistry {
+
+    private final Set<Long> hotProductIds = new HashSet<>();
+
+    @Override
+    public Set<Long> findHot(Collection<Long> productIds) {
+        return productIds.stream().filter(hotProductIds::contains).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void markHot(Long productId) {
+        hotProductIds.add(productId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.domain.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class FakeProductChangeBroadcaster implements ProductChangeBroadcaster {
+
+    private final List<Long> broadcastedIds = new ArrayList<>();
+    private final List<List<Long>> messages = new ArrayList<>();
+    private final List<Consumer<List<Long>>> listeners = new ArrayList<>();
+
+    @Override
+    public void broadcast(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        messages.add(productIds);
+        broadcastedIds.addAll(productIds);
+    }
+
+    @Override
+    public void subscribe(Consumer<List<Long>> listener) {
+        listeners.add(listener);
+    }
+
+    // 다른 노드에서 알림이 도착한 상황을 흉내낸다.
+    public void receive(List<Long> productIds) {
+        listeners.forEach(listener -> listener.accept(productIds));
+    }
+
+    public List<List<Long>> getMessages() {
+        return messages;
+    }
+
+    public List<Long> getBroadcastedIds() {
+        return broadcastedIds;
+    }
+}
@@ -0,0 +1,58 @@
+package com.loopers.domain.product;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FakeProductFacetRepository implements ProductFacetRepository {
+
+    private final Map<Long, Map<PriceBucket, Long>> counts = new HashMap<>();
+
+    @Override
+    public void increase(Long brandId, int price, long delta) {
+        increaseBucket(brandId, PriceBucket.of(price), delta);
+    }
+
+    @Override
+    public ProductFacets findFacets(Long brandId) {
+        Map<Long, Long> brandCounts = new HashMap<>();
+        Map<PriceBucket, Long> priceBucketCounts = new EnumMap<>(PriceBucket.class);
+        counts.forEach((id, buckets) -> buckets.forEach((bucket, count) -> {
+            if (count <= 0) {
+                return;
+            }
+            brandCounts.merge(id, count, Long::sum);
+            if (brandId == null || brandId.equals(id)) {
+                priceBucketCounts.merge(bucket, count, Long::sum);
+            }
+        }));
+        return new ProductFacets(brandCounts, priceBucketCounts);
+    }
+
+    @Override
+    public long countProducts(Long brandId) {
+        return counts.entrySet().stream()
+            .filter(entry -> brandId == null || brandId.equals(entry.getKey()))
+            .flatMap(entry -> entry.getValue().values().stream())
+            .mapToLong(count -> Math.max(count, 0L))
+            .sum();
+    }
+
+    @Override
+    public void removeBrand(Long brandId) {
+        counts.remove(brandId);
+    }
+
+    @Override
+    public void replaceAll(List<ProductFacetCount> facetCounts) {
+        counts.clear();
+        for (ProductFacetCount count : facetCounts) {
+            increaseBucket(count.brandId(), count.priceBucket(), count.count());
+        }
+    }
+
+    private void increaseBucket(Long brandId, PriceBucket bucket, long delta) {
+        counts.computeIfAbsent(brandId, k -> new EnumMap<>(PriceBucket.class)).merge(bucket, delta, Long::sum);
+    }
+}
@@ -0,0 +1,65 @@
+package com.loopers.domain.product;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class FakeProductLikeCountBuffer implements ProductLikeCountBuffer {
+
+    private Map<Long, Long> pending = new HashMap<>();
+    private final Map<String, Map<Long, Long>> batches = new HashMap<>();
+
+    @Override
+    public void add(Long productId, long delta) {
+        pending.merge(productId, delta, Long::sum);
+    }
+
+    @Override
+    public long getPending(Long productId) {
+        return pending.getOrDefault(productId, 0L);
+    }
+
+    @Override
+    public Set<Long> findUnappliedProductIds(List<Long> productIds) {
+        Set<Long> unapplied = new HashSet<>();
+        for (Long productId : productIds) {
+            boolean inBatch = batches.values().stream().anyMatch(deltas -> deltas.getOrDefault(productId, 0L) != 0);
+            if (pending.getOrDefault(productId, 0L) != 0 || inBatch) {
+                unapplied.add(productId);
+            }
+        }
+        return unapplied;
+    }
+
+    @Override
+    public LikeCountBatch drain() {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        String batchId = UUID.randomUUID().toString();
+        batches.put(batchId, pending);
+        pending = new HashMap<>();
+        return new LikeCountBatch(batchId, batches.get(batchId));
+    }
+
+    // 반영 중 종료된 배치를 흉내내려면 drain() 후 complete 하지 않으면 된다.
+    @Override
+    public List<LikeCountBatch> claimStaleBatches(Duration olderThan) {
+        return batches.entrySet().stream()
+            .map(entry -> new LikeCountBatch(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    @Override
+    public void complete(String batchId) {
+        batches.remove(batchId);
+    }
+
+    public int getOpenBatchCount() {
+        return batches.size();
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopers.domain.product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FakeProductLikeCountShardRepository implements ProductLikeCountShardRepository {
+
+    private final Map<Long, Map<Integer, Long>> shards = new HashMap<>();
+    private int sumCallCount;
+
+    @Override
+    public void add(Long productId, int slot, long delta) {
+        shards.computeIfAbsent(productId, k -> new HashMap<>()).merge(slot, delta, Long::sum);
+    }
+
+    @Override
+    public Map<Long, Long> sumByProductIds(Collection<Long> productIds) {
+        sumCallCount++;
+        Map<Long, Long> sums = new HashMap<>();
+        for (Long productId : productIds) {
+            Map<Integer, Long> slots = shards.get(productId);
+            if (slots != null) {
+                sums.put(productId, slots.values().stream().mapToLong(Long::longValue).sum());
+            }
+        }
+        return sums;
+    }
+
+    @Override
+    public List<Long> findShardedProductIds() {
+        return new ArrayList<>(shards.keySet());
+    }
+
+    @Override
+    public long takeAll(Long productId) {
+        Map<Integer, Long> slots = shards.remove(productId);
+        return slots == null ? 0L : slots.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public int getSumCallCount() {
+        return sumCallCount;
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.domain.product;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FakeProductLikeOrderRepository implements ProductLikeOrderRepository {
+
+    private final Map<Long, Map<Long, Long>> brandScores = new HashMap<>();
+    private final Map<Long, Long> globalScores = new HashMap<>();
+    private final Map<String, List<Product>> staged = new HashMap<>();
+    private boolean ready;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public List<Long> findProductIds(Long brandId, long offset, int count) {
+        return ordered(brandId).stream().skip(offset).limit(count).toList();
+    }
+
+    @Override
+    public Long findPosition(Long brandId, Long productId) {
+        int position = ordered(brandId).indexOf(productId);
+        return position < 0 ? null : (long) position;
+    }
+
+    @Override
+    public void add(Long brandId, Long productId) {
+        globalScores.putIfAbsent(productId, 0L);
+        brandScores.computeIfAbsent(brandId, k -> new HashMap<>()).putIfAbsent(productId, 0L);
+    }
+
+    @Override
+    public void increase(Long brandId, Long productId, long delta) {
+        globalScores.merge(productId, delta, Long::sum);
+        brandScores.computeIfAbsent(brandId, k -> new HashMap<>()).merge(productId, delta, Long::sum);
+    }
+
+    @Override
+    public void put(Long brandId, Long productId, long likeCount) {
+        globalScores.put(productId, likeCount);
+        brandScores.computeIfAbsent(brandId, k -> new HashMap<>()).put(productId, likeCount);
+    }
+
+    @Override
+    public void remove(Long brandId, Long productId) {
+        globalScores.remove(productId);
+        brandScores.getOrDefault(brandId, new HashMap<>()).remove(productId);
+    }
+
+    @Override
+    public void removeBrand(Long brandId) {
+        Map<Long, Long> removed = brandScores.remove(brandId);
+        if (removed != null) {
+            removed.keySet().forEach(globalScores::remove);
+        }
+    }
+
+    @Override
+    public void stageRebuild(String rebuildId, List<Product> products) {
+        staged.computeIfAbsent(rebuildId, k -> new ArrayList<>()).addAll(products);
+    }
+
+    // 적재된 것이 없으면 기존 인덱스를 지우지 않는다.
+    @Override
+    public void publishRebuild(String rebuildId) {
+        List<Product> products = staged.remove(rebuildId);
+        if (products != null && !products.isEmpty()) {
+            globalScores.clear();
+            brandScores.clear();
+            for (Product product : products) {
+                put(product.getBrandId(), product.getId(), product.getLikeCount());
+            }
+        }
+        ready = true;
+    }
+
+    public Long getScore(Long productId) {
+        return globalScores.get(productId);
+    }
+
+    // 점수 내림차순, 동점은 id 오름차순 (MySQL like_count DESC, id ASC 와 같은 순서)
+    private List<Long> ordered(Long brandId) {
+        Map<Long, Long> scores = brandId == null ? globalScores : brandScores.getOrDefault(brandId, Map.of());
+        return scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry::getKey))
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+}
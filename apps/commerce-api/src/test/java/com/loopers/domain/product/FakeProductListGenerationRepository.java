@@ -0,0 +1,26 @@
+package com.loopers.domain.product;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class FakeProductListGenerationRepository implements ProductListGenerationRepository {
+
+    private final Map<Long, Long> brandGenerations = new HashMap<>();
+    private long globalGeneration = 0L;
+
+    @Override
+    public long getGlobalGeneration() {
+        return globalGeneration;
+    }
+
+    @Override
+    public long getBrandGeneration(Long brandId) {
+        return brandGenerations.getOrDefault(brandId, 0L);
+    }
+
+    @Override
+    public void increase(Long brandId) {
+        brandGenerations.merge(brandId, 1L, Long::sum);
+        globalGeneration++;
+    }
+}
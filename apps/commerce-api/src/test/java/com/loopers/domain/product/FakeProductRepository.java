@@ -2,6 +2,7 @@ package com.loopers.domain.product;
 
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -35,7 +36,7 @@ public class FakeProductRepository implements ProductRepository {
     }
 
     @Override
-    public List<Product> findAllPaged(Long brandId, ProductSort sort, int page, int size) {
+    public List<Product> findAllPaged(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size) {
         Comparator<Product> comparator = switch (sort) {
             case LATEST -> Comparator.comparing(Product::getCreatedAt).reversed();
             case PRICE_ASC -> Comparator.comparingInt(Product::getPrice);
@@ -44,12 +45,46 @@ public class FakeProductRepository implements ProductRepository {
         return store.values().stream()
             .filter(p -> p.getDeletedAt() == null)
             .filter(p -> brandId == null || brandId.equals(p.getBrandId()))
+            .filter(p -> priceRange.contains(p.getPrice()))
             .sorted(comparator)
             .skip((long) page * size)
             .limit(size)
             .toList();
     }
 
+    // 브랜드 저장소를 모르므로 brandName 은 채우지 않는다.
+    @Override
+    public List<ProductSummary> findSummaries(Long brandId, ProductPriceRange priceRange, ProductSort sort, int page, int size) {
+        return findAllPaged(brandId, priceRange, sort, page, size).stream()
+            .map(p -> new ProductSummary(p.getId(), p.getName(), p.getDescription(), p.getPrice(), p.getStock(),
+                p.getImageUrl(), p.getBrandId(), null, p.getLikeCount(), p.getUpdatedAt()))
+            .toList();
+    }
+
+    @Override
+    public List<Product> findAllByCursor(Long brandId, ProductSort sort, ProductCursor cursor, int size) {
+        Comparator<Product> comparator = switch (sort) {
+            case LATEST -> Comparator.comparing(Product::getCreatedAt).reversed();
+            case PRICE_ASC -> Comparator.comparingInt(Product::getPrice);
+            case LIKES_DESC -> Comparator.comparingLong(Product::getLikeCount).reversed();
+        };
+        return store.values().stream()
+            .filter(p -> p.getDeletedAt() == null)
+            .filter(p -> brandId == null || brandId.equals(p.getBrandId()))
+            .sorted(comparator.thenComparing(Product::getId))
+            .filter(p -> cursor == null || isAfter(p, sort, cursor))
+            .limit(size)
+            .toList();
+    }
+
+    private boolean isAfter(Product product, ProductSort sort, ProductCursor cursor) {
+        ProductCursor current = ProductCursor.of(product, sort);
+        if (current.value() != cursor.value()) {
+            return sort == ProductSort.PRICE_ASC ? current.value() > cursor.value() : current.value() < cursor.value();
+        }
+        return product.getId() > cursor.id();
+    }
+
     @Override
     public List<Product> findAllOrderByLikeCountDesc() {
         return store.values().stream()
@@ -76,6 +111,13 @@ public class FakeProductRepository implements ProductRepository {
             .toList();
     }
 
+    @Override
+    public List<Product> findActiveByIds(List<Long> ids) {
+        return findAllByIds(ids).stream()
+            .filter(p -> p.getDeletedAt() == null)
+            .toList();
+    }
+
     @Override
     public List<Product> findAllByIds(List<Long> ids) {
         List<Product> result = new ArrayList<>();
@@ -88,6 +130,92 @@ public class FakeProductRepository implements ProductRepository {
         return result;
     }
 
+    @Override
+    public List<Product> findAllAfterId(Long lastId, int size) {
+        return store.values().stream()
+            .filter(p -> p.getId() > lastId)
+            .sorted(Comparator.comparing(Product::getId))
+            .limit(size)
+            .toList();
+    }
+
+    @Override
+    public List<Long> findTopBrandIdsByLikeCount(int size) {
+        Map<Long, Long> likeSums = new HashMap<>();
+        for (Product product : store.values()) {
+            if (product.getDeletedAt() == null) {
+                likeSums.merge(product.getBrandId(), product.getLikeCount(), Long::sum);
+            }
+        }
+        return likeSums.entrySet().stream()
+            .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+            .limit(size)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    @Override
+    public List<ProductFacetCount> countByBrandAndPriceBucket() {
+        Map<Long, Map<PriceBucket, Long>> counts = new HashMap<>();
+        for (Product product : store.values()) {
+            if (product.getDeletedAt() == null) {
+                counts.computeIfAbsent(product.getBrandId(), k -> new HashMap<>())
+                    .merge(PriceBucket.of(product.getPrice()), 1L, Long::sum);
+            }
+        }
+        List<ProductFacetCount> result = new ArrayList<>();
+        counts.forEach((brandId, buckets) ->
+            buckets.forEach((bucket, count) -> result.add(new ProductFacetCount(brandId, bucket, count)))
+        );
+        return result;
+    }
+
+    @Override
+    public boolean updateLikeCount(Long productId, long expected, long actual) {
+        Product product = store.get(productId);
+        if (product == null || product.getLikeCount() != expected) {
+            return false;
+        }
+        ReflectionTestUtils.setField(product, "likeCount", actual);
+        return true;
+    }
+
+    @Override
+    public int increaseLikeCounts(Map<Long, Long> deltas) {
+        int updated = 0;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            Product product = store.get(entry.getKey());
+            if (product != null) {
+                ReflectionTestUtils.setField(product, "likeCount", product.getLikeCount() + entry.getValue());
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<Long> findActiveIdsByBrandIdAfter(Long brandId, Long lastId, int size) {
+        return store.values().stream()
+            .filter(p -> brandId.equals(p.getBrandId()) && p.getId() > lastId && p.getDeletedAt() == null)
+            .map(Product::getId)
+            .sorted()
+            .limit(size)
+            .toList();
+    }
+
+    @Override
+    public int softDeleteByBrandIdInIdRange(Long brandId, Long fromId, Long toId, ZonedDateTime deletedAt) {
+        int deleted = 0;
+        for (Product product : store.values()) {
+            if (brandId.equals(product.getBrandId()) && product.getId() > fromId && product.getId() <= toId
+                && product.getDeletedAt() == null) {
+                ReflectionTestUtils.setField(product, "deletedAt", deletedAt);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
     @Override
     public Optional<Product> findByIdForUpdate(Long id) {
         return Optional.ofNullable(store.get(id));
@@ -0,0 +1,76 @@
+package com.loopers.domain.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ProductLikeCountServiceTest {
+
+    private ProductLikeCountService productLikeCountService;
+    private FakeProductLikeCountShardRepository fakeProductLikeCountShardRepository;
+    private FakeHotProductRegistry fakeHotProductRegistry;
+
+    @BeforeEach
+    void setUp() {
+        fakeProductLikeCountShardRepository = new FakeProductLikeCountShardRepository();
+        fakeHotProductRegistry = new FakeHotProductRegistry();
+        productLikeCountService = new ProductLikeCountService(
+            new FakeProductRepository(), fakeProductLikeCountShardRepository, fakeHotProductRegistry
+        );
+    }
+
+    @DisplayName("합쳐지지 않은 슬롯 합계 조회 시,")
+    @Nested
+    class GetUnfoldedCounts {
+
+        @DisplayName("인기 상품도 아니고 슬롯 행도 없으면, 슬롯 합계를 조회하지 않는다.")
+        @Test
+        void skipsShardQuery_whenNoProductIsHotOrSharded() {
+            // act
+            Map<Long, Long> result = productLikeCountService.getUnfoldedCounts(List.of(1L, 2L));
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isEmpty(),
+                () -> assertThat(fakeProductLikeCountShardRepository.getSumCallCount()).isZero()
+            );
+        }
+
+        @DisplayName("인기 상품 표시가 만료되었어도 슬롯 행이 남아 있으면, 합계에 포함한다.")
+        @Test
+        void includesShardedProduct_whenHotMarkExpired() {
+            // arrange
+            fakeProductLikeCountShardRepository.add(1L, 0, 3L);
+
+            // act
+            Map<Long, Long> result = productLikeCountService.getUnfoldedCounts(List.of(1L, 2L));
+
+            // assert
+            assertThat(result).containsExactly(Map.entry(1L, 3L));
+        }
+
+        @DisplayName("인기 상품이면, 해당 상품만 슬롯 합계를 조회한다.")
+        @Test
+        void sumsOnlyHotProducts() {
+            // arrange
+            fakeHotProductRegistry.markHot(2L);
+            fakeProductLikeCountShardRepository.add(2L, 1, 5L);
+
+            // act
+            Map<Long, Long> result = productLikeCountService.getUnfoldedCounts(List.of(1L, 2L));
+
+            // assert
+            assertAll(
+                () -> assertThat(result).containsExactly(Map.entry(2L, 5L)),
+                () -> assertThat(fakeProductLikeCountShardRepository.getSumCallCount()).isEqualTo(1)
+            );
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.loopers.domain.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex();
+        productSearchIndex.index(1L, "에어맥스 운동화", "가벼운 러닝화", "나이키", 10);
+        productSearchIndex.index(2L, "울트라부스트", "쿠셔닝 러닝화", "아디다스", 30);
+        productSearchIndex.index(3L, "에어포스", "농구화", "나이키", 20);
+    }
+
+    @DisplayName("검색 시,")
+    @Nested
+    class Search {
+
+        @DisplayName("단어 중간의 부분 문자열로도 찾고, 좋아요 순으로 반환한다.")
+        @Test
+        void findsBySubstring_orderedByLikes() {
+            // act
+            List<Long> result = productSearchIndex.search("러닝", 10);
+
+            // assert
+            assertThat(result).containsExactly(2L, 1L);
+        }
+
+        @DisplayName("한 글자 검색어로도 찾는다.")
+        @Test
+        void findsBySingleCharacter() {
+            // act
+            List<Long> result = productSearchIndex.search("농", 10);
+
+            // assert
+            assertThat(result).containsExactly(3L);
+        }
+
+        @DisplayName("여러 단어면, 모든 단어를 포함한 상품만 반환한다.")
+        @Test
+        void requiresAllTerms() {
+            // act
+            List<Long> result = productSearchIndex.search("나이키 에어", 10);
+
+            // assert
+            assertThat(result).containsExactly(3L, 1L);
+        }
+
+        @DisplayName("gram 은 모두 있지만 이어지지 않으면, 반환하지 않는다.")
+        @Test
+        void excludesNonContiguousMatches() {
+            // act
+            List<Long> result = productSearchIndex.search("맥스운동", 10);
+
+            // assert
+            assertThat(result).isEmpty();
+        }
+
+        @DisplayName("다시 색인하거나 삭제하면, 바로 검색 결과에 반영된다.")
+        @Test
+        void reflectsReindexAndRemove() {
+            // act
+            productSearchIndex.index(1L, "에어맥스 스니커즈", "데일리", "나이키", 10);
+            productSearchIndex.remove(3L);
+
+            // assert
+            assertAll(
+                () -> assertThat(productSearchIndex.search("운동화", 10)).isEmpty(),
+                () -> assertThat(productSearchIndex.search("스니커즈", 10)).containsExactly(1L),
+                () -> assertThat(productSearchIndex.search("에어", 10)).containsExactly(1L),
+                () -> assertThat(productSearchIndex.size()).isEqualTo(2)
+            );
+        }
+    }
+
+    @DisplayName("자동완성 시,")
+    @Nested
+    class Suggest {
+
+        @DisplayName("접두사로 시작하는 단어를 상품 수가 많은 순으로 반환한다.")
+        @Test
+        void returnsWordsStartingWithPrefix() {
+            // act
+            List<String> result = productSearchIndex.suggest("에어", 10);
+
+            // assert
+            assertThat(result).containsExactly("에어맥스", "에어포스");
+        }
+
+        @DisplayName("브랜드명도 후보에 포함된다.")
+        @Test
+        void includesBrandNames() {
+            // act
+            List<String> result = productSearchIndex.suggest("나", 10);
+
+            // assert
+            assertThat(result).containsExactly("나이키");
+        }
+    }
+}
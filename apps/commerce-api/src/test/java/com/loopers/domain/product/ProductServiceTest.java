@@ -98,10 +98,13 @@ class ProductServiceTest {
             String newName = "수정된 상품명";
 
             // act
-            Product result = productService.update(saved.getId(), newName, "새 설명", 20000, 50, "https://example.com/new.jpg");
+            ProductChange result = productService.update(saved.getId(), newName, "새 설명", 20000, 50, "https://example.com/new.jpg");
 
             // assert
-            assertThat(result.getName()).isEqualTo(newName);
+            assertAll(
+                () -> assertThat(result.product().getName()).isEqualTo(newName),
+                () -> assertThat(result.previousPrice()).isEqualTo(VALID_PRICE)
+            );
         }
 
         @DisplayName("존재하지 않는 ID로 수정하면, NOT_FOUND 예외가 발생한다.")
@@ -131,11 +134,28 @@ class ProductServiceTest {
             Product saved = productService.register(VALID_BRAND_ID, VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK, VALID_IMAGE_URL);
 
             // act
-            productService.delete(saved.getId());
+            ProductChange change = productService.delete(saved.getId());
 
             // assert
             Product result = fakeProductRepository.findById(saved.getId()).orElseThrow();
-            assertThat(result.getDeletedAt()).isNotNull();
+            assertAll(
+                () -> assertThat(result.getDeletedAt()).isNotNull(),
+                () -> assertThat(change.previouslyActive()).isTrue()
+            );
+        }
+
+        @DisplayName("이미 삭제된 상품을 다시 삭제하면, 변경 전에도 비활성이었다고 반환한다.")
+        @Test
+        void returnsInactive_whenAlreadyDeleted() {
+            // arrange
+            Product saved = productService.register(VALID_BRAND_ID, VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK, VALID_IMAGE_URL);
+            productService.delete(saved.getId());
+
+            // act
+            ProductChange change = productService.delete(saved.getId());
+
+            // assert
+            assertThat(change.previouslyActive()).isFalse();
         }
 
         @DisplayName("존재하지 않는 ID로 삭제하면, NOT_FOUND 예외가 발생한다.")
@@ -216,11 +236,15 @@ class ProductServiceTest {
             productService.register(2L, "다른브랜드상품", null, 3000, 30, null);
 
             // act
-            productService.deleteAllByBrandId(VALID_BRAND_ID);
+            List<Long> deletedIds = productService.deleteAllByBrandId(VALID_BRAND_ID);
 
             // assert
             List<Product> brandProducts = fakeProductRepository.findAllByBrandId(VALID_BRAND_ID);
-            assertThat(brandProducts).allMatch(p -> p.getDeletedAt() != null);
+            assertAll(
+                () -> assertThat(brandProducts).allMatch(p -> p.getDeletedAt() != null),
+                () -> assertThat(deletedIds).hasSize(2),
+                () -> assertThat(fakeProductRepository.findAllByBrandId(2L)).allMatch(p -> p.getDeletedAt() == null)
+            );
         }
     }
 
@@ -0,0 +1,23 @@
+package com.loopers.domain.ranking;
+
+import java.time.Duration;
+
+public class FakeRankingPageRefreshLock implements RankingPageRefreshLock {
+
+    private boolean available = true;
+    private int acquireCallCount;
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    @Override
+    public boolean tryAcquire(Duration leaseTime) {
+        acquireCallCount++;
+        return available;
+    }
+
+    public int getAcquireCallCount() {
+        return acquireCallCount;
+    }
+}
@@ -6,19 +6,21 @@ public class FakeRankingRepository implements RankingRepository {
 
     // date → sorted (productId → score), 내림차순 정렬
     private final Map<String, Map<Long, Double>> store = new HashMap<>();
+    private int topProductsCallCount;
 
     public void setScore(String date, Long productId, double score) {
         store.computeIfAbsent(date, k -> new HashMap<>()).put(productId, score);
     }
 
     @Override
-    public List<String> getTopProductIds(String date, int offset, int count) {
+    public List<RankedProduct> getTopProducts(String date, int offset, int count) {
+        topProductsCallCount++;
         Map<Long, Double> scores = store.getOrDefault(date, Map.of());
         return scores.entrySet().stream()
                 .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
                 .skip(offset)
                 .limit(count)
-                .map(e -> e.getKey().toString())
+                .map(e -> new RankedProduct(e.getKey(), e.getValue()))
                 .toList();
     }
 
@@ -31,8 +33,22 @@ public class FakeRankingRepository implements RankingRepository {
         return rank;
     }
 
+    @Override
+    public Map<Long, Long> getRanks(String date, List<Long> productIds) {
+        Map<Long, Long> ranks = new HashMap<>();
+        for (Long productId : productIds) {
+            Long rank = getRank(date, productId);
+            if (rank != null) ranks.put(productId, rank);
+        }
+        return ranks;
+    }
+
     @Override
     public long getTotalCount(String date) {
         return store.getOrDefault(date, Map.of()).size();
     }
+
+    public int getTopProductsCallCount() {
+        return topProductsCallCount;
+    }
 }
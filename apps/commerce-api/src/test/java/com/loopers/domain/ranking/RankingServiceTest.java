@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -90,5 +91,32 @@ class RankingServiceTest {
             assertThat(page1).containsExactly(1L, 2L);
             assertThat(page2).containsExactly(3L, 4L);
         }
+
+        @DisplayName("점수와 함께 조회하면, 상품 ID 와 점수를 내림차순으로 반환한다.")
+        @Test
+        void returnsScoresWithProductIds() {
+            fakeRepo.setScore("20260410", 1L, 100.0);
+            fakeRepo.setScore("20260410", 2L, 200.0);
+
+            List<RankedProduct> top = rankingService.getTopProducts("20260410", 0, 2);
+
+            assertThat(top).containsExactly(new RankedProduct(2L, 200.0), new RankedProduct(1L, 100.0));
+        }
+    }
+
+    @DisplayName("여러 상품 순위 조회")
+    @Nested
+    class GetRanks {
+
+        @DisplayName("랭킹에 있는 상품만 1-indexed 순위로 반환한다.")
+        @Test
+        void returnsOneIndexedRanksOfRankedProducts() {
+            fakeRepo.setScore("20260410", 1L, 100.0);
+            fakeRepo.setScore("20260410", 2L, 200.0);
+
+            Map<Long, Long> ranks = rankingService.getRanks("20260410", List.of(1L, 2L, 999L));
+
+            assertThat(ranks).containsOnly(Map.entry(1L, 2L), Map.entry(2L, 1L));
+        }
     }
 }
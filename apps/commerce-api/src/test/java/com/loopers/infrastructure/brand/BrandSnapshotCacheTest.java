@@ -0,0 +1,169 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.Brand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BrandSnapshotCacheTest {
+
+    private static final String VERSION_KEY = "brand:snapshot:version";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private AtomicInteger loadCount;
+    private Supplier<List<Brand>> loader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        loadCount = new AtomicInteger();
+        loader = () -> {
+            loadCount.incrementAndGet();
+            return List.of(brand(1L, "나이키"));
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 버전을 매번 Redis 에서 확인하도록 로컬 보관 시간을 0 으로 둔다.
+    private BrandSnapshotCache createCache() {
+        return new BrandSnapshotCache(redisTemplate, mock(RedisMessageListenerContainer.class), Duration.ZERO);
+    }
+
+    private Brand brand(Long id, String name) {
+        Brand brand = new Brand(name, "설명", "http://brand.url");
+        ReflectionTestUtils.setField(brand, "id", id);
+        return brand;
+    }
+
+    @DisplayName("스냅샷 조회 시,")
+    @Nested
+    class Get {
+
+        @DisplayName("버전이 그대로면, 다시 읽지 않는다.")
+        @Test
+        void reusesSnapshot_whenVersionUnchanged() {
+            // arrange
+            when(valueOperations.get(VERSION_KEY)).thenReturn("5");
+            BrandSnapshotCache cache = createCache();
+
+            // act
+            cache.get(loader);
+            Map<Long, Brand> result = cache.get(loader);
+
+            // assert
+            assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(result.get(1L).getName()).isEqualTo("나이키")
+            );
+        }
+
+        @DisplayName("버전이 올라가면, 여러 번 조회해도 한 번만 다시 읽는다.")
+        @Test
+        void reloadsOnce_whenVersionBumped() {
+            // arrange
+            when(valueOperations.get(VERSION_KEY)).thenReturn("5", "6");
+            BrandSnapshotCache cache = createCache();
+
+            // act
+            cache.get(loader);
+            cache.get(loader);
+            cache.get(loader);
+
+            // assert
+            assertThat(loadCount.get()).isEqualTo(2);
+        }
+
+        @DisplayName("Redis 에서 버전을 읽지 못하면, 마지막 스냅샷을 계속 반환한다.")
+        @Test
+        void servesLastSnapshot_whenRedisFails() {
+            // arrange
+            when(valueOperations.get(VERSION_KEY))
+                .thenReturn("5")
+                .thenThrow(new RedisConnectionFailureException("redis down"));
+            BrandSnapshotCache cache = createCache();
+            Map<Long, Brand> loaded = cache.get(loader);
+
+            // act
+            Map<Long, Brand> first = cache.get(loader);
+            Map<Long, Brand> second = cache.get(loader);
+
+            // assert
+            assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(first).isSameAs(loaded),
+                () -> assertThat(second).isSameAs(loaded)
+            );
+        }
+    }
+
+    @DisplayName("트랜잭션 안에서 무효화할 때,")
+    @Nested
+    class Invalidate {
+
+        @DisplayName("커밋되면, 버전을 한 번 올린다.")
+        @Test
+        void increasesVersion_whenCommitted() {
+            // arrange
+            when(valueOperations.increment(VERSION_KEY)).thenReturn(6L);
+            BrandSnapshotCache cache = createCache();
+            TransactionSynchronizationManager.initSynchronization();
+            cache.invalidate();
+
+            // act
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // assert
+            verify(valueOperations, times(1)).increment(VERSION_KEY);
+        }
+
+        @DisplayName("롤백되면, 버전을 올리지 않는다.")
+        @Test
+        void doesNotIncreaseVersion_whenRolledBack() {
+            // arrange
+            BrandSnapshotCache cache = createCache();
+            TransactionSynchronizationManager.initSynchronization();
+            cache.invalidate();
+
+            // act
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // assert
+            verify(valueOperations, never()).increment(anyString());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.loopers.application.product.ProductInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 Jackson(DefaultTyping.EVERYTHING) 직렬화기와 compact 직렬화기의 엔트리 크기, 인코딩/디코딩 시간을 비교한다.
+ * 결과는 로그로 확인하고, 검증은 크기와 정합성만 한다. (시간은 실행 환경에 따라 달라 단언하지 않는다)
+ */
+@Slf4j
+class CacheValueSerializerBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+
+    @DisplayName("상세(1건) / 목록(20건) / 목록(100건) 값에 대해 두 직렬화기를 비교한다.")
+    @Test
+    void compareSerializers() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new ParameterNamesModule());
+        objectMapper.activateDefaultTyping(
+            LaissezFaireSubTypeValidator.instance,
+            ObjectMapper.DefaultTyping.EVERYTHING,
+            JsonTypeInfo.As.PROPERTY
+        );
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(objectMapper);
+        CompactCacheValueSerializer compact = new CompactCacheValueSerializer(json, 1024);
+
+        for (Object value : List.of(productInfo(1L), productInfos(20), productInfos(100))) {
+            Result jsonResult = measure(json, value);
+            Result compactResult = measure(compact, value);
+            log.info("[{}] json: {} bytes, encode {} ns, decode {} ns / compact: {} bytes, encode {} ns, decode {} ns",
+                label(value),
+                jsonResult.bytes(), jsonResult.encodeNanos(), jsonResult.decodeNanos(),
+                compactResult.bytes(), compactResult.encodeNanos(), compactResult.decodeNanos());
+
+            assertThat(compactResult.bytes()).isLessThan(jsonResult.bytes());
+        }
+    }
+
+    private static Result measure(RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            serializer.serialize(value);
+        }
+        long encodeNanos = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+
+        start = System.nanoTime();
+        Object decoded = null;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            decoded = serializer.deserialize(bytes);
+        }
+        long decodeNanos = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+
+        assertThat(decoded).isEqualTo(value);
+        return new Result(bytes.length, encodeNanos, decodeNanos);
+    }
+
+    private static String label(Object value) {
+        return value instanceof List<?> list ? "list(" + list.size() + ")" : "detail";
+    }
+
+    private static ProductInfo productInfo(long id) {
+        return new ProductInfo(id, "상품" + id, "설명입니다", 10000 + (int) id, 50, "http://image.url/" + id,
+            id % 10, "브랜드" + (id % 10), id * 3, false, id, null);
+    }
+
+    private static List<ProductInfo> productInfos(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(CacheValueSerializerBenchmarkTest::productInfo).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private record Result(int bytes, long encodeNanos, long decodeNanos) {}
+}
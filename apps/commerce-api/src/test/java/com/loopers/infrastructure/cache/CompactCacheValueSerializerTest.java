@@ -0,0 +1,135 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.loopers.application.product.ProductInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CompactCacheValueSerializerTest {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CompactCacheValueSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new ParameterNamesModule());
+        objectMapper.activateDefaultTyping(
+            LaissezFaireSubTypeValidator.instance,
+            ObjectMapper.DefaultTyping.EVERYTHING,
+            JsonTypeInfo.As.PROPERTY
+        );
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        serializer = new CompactCacheValueSerializer(jsonSerializer, 1024);
+    }
+
+    private static ProductInfo productInfo(long id) {
+        return new ProductInfo(id, "상품" + id, "설명입니다", 10000 + (int) id, 50, "http://image.url/" + id,
+            id % 10, "브랜드" + (id % 10), id * 3, false, id % 2 == 0 ? null : id, null);
+    }
+
+    private static List<ProductInfo> productInfos(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(CompactCacheValueSerializerTest::productInfo).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @DisplayName("직렬화 후 역직렬화 시,")
+    @Nested
+    class RoundTrip {
+
+        @DisplayName("단건 record 는 동일한 값으로 복원된다.")
+        @Test
+        void restoresSingleRecord() {
+            // arrange
+            ProductInfo info = productInfo(1L);
+
+            // act
+            Object result = serializer.deserialize(serializer.serialize(info));
+
+            // assert
+            assertThat(result).isEqualTo(info);
+        }
+
+        @DisplayName("압축 임계치를 넘는 목록도 동일한 값으로 복원된다.")
+        @Test
+        void restoresCompressedList() {
+            // arrange
+            List<ProductInfo> infos = productInfos(100);
+
+            // act
+            byte[] bytes = serializer.serialize(infos);
+            Object result = serializer.deserialize(bytes);
+
+            // assert
+            assertAll(
+                () -> assertThat(bytes[1]).isEqualTo((byte) 1),
+                () -> assertThat(result).isEqualTo(infos)
+            );
+        }
+
+        @DisplayName("record 가 아닌 값은 fallback 직렬화기로 처리된다.")
+        @Test
+        void delegatesToFallback_whenNotRecord() {
+            // arrange
+            Map<String, Long> value = new HashMap<>();
+            value.put("count", 3L);
+
+            // act
+            byte[] bytes = serializer.serialize(value);
+
+            // assert
+            assertAll(
+                () -> assertThat(bytes[0]).isNotEqualTo(CompactCacheValueSerializer.MAGIC),
+                () -> assertThat(serializer.deserialize(bytes)).isEqualTo(value)
+            );
+        }
+
+        @DisplayName("전환 전 JSON 으로 저장된 엔트리도 읽을 수 있다.")
+        @Test
+        void readsLegacyJsonEntry() {
+            // arrange
+            List<ProductInfo> infos = productInfos(3);
+            byte[] legacy = jsonSerializer.serialize(infos);
+
+            // act
+            Object result = serializer.deserialize(legacy);
+
+            // assert
+            assertThat(result).isEqualTo(infos);
+        }
+    }
+
+    @DisplayName("크기 비교 시,")
+    @Nested
+    class Size {
+
+        @DisplayName("상품 목록 20건의 직렬화 크기가 기존 JSON 보다 작다.")
+        @Test
+        void isSmallerThanJson() {
+            // arrange
+            List<ProductInfo> infos = productInfos(20);
+
+            // act
+            int compactSize = serializer.serialize(infos).length;
+            int jsonSize = jsonSerializer.serialize(infos).length;
+
+            // assert
+            assertThat(compactSize).isLessThan(jsonSize / 2);
+        }
+    }
+}
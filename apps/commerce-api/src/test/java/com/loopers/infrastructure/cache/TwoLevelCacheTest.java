@@ -0,0 +1,355 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "productDetail";
+
+    private ConcurrentMapCache remoteCache;
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private List<String> publishedKeys;
+    private TwoLevelCache twoLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache(CACHE_NAME, false);
+        localCache = Caffeine.newBuilder().maximumSize(100).build();
+        publishedKeys = new ArrayList<>();
+        twoLevelCache = createCache((name, key) -> publishedKeys.add(key), null);
+    }
+
+    private TwoLevelCache createCache(
+        TwoLevelCache.InvalidationPublisher invalidationPublisher,
+        TwoLevelCache.EarlyRefreshPolicy earlyRefreshPolicy
+    ) {
+        return new TwoLevelCache(
+            CACHE_NAME, remoteCache, localCache, invalidationPublisher, earlyRefreshPolicy,
+            new TwoLevelCacheMetrics(new SimpleMeterRegistry(), CACHE_NAME), null
+        );
+    }
+
+    @DisplayName("조회 시,")
+    @Nested
+    class Get {
+
+        @DisplayName("L1 에 없고 L2 에 있으면, L2 값을 반환하고 L1 에 채운다.")
+        @Test
+        void fillsLocalCache_whenRemoteHit() {
+            // arrange
+            remoteCache.put(1L, "상품");
+
+            // act
+            Object result = twoLevelCache.get(1L).get();
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isEqualTo("상품"),
+                () -> assertThat(localCache.getIfPresent("1")).isEqualTo("상품")
+            );
+        }
+
+        @DisplayName("L1 에 있으면, L2 를 조회하지 않고 L1 값을 반환한다.")
+        @Test
+        void returnsLocalValue_whenLocalHit() {
+            // arrange
+            localCache.put("1", "L1 상품");
+            remoteCache.put(1L, "L2 상품");
+
+            // act
+            Object result = twoLevelCache.get(1L).get();
+
+            // assert
+            assertThat(result).isEqualTo("L1 상품");
+        }
+
+        @DisplayName("두 계층 모두 없으면, 로더 결과를 두 계층에 저장한다.")
+        @Test
+        void loadsAndStoresInBothLevels_whenMiss() {
+            // act
+            String result = twoLevelCache.get(1L, () -> "로드된 상품");
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isEqualTo("로드된 상품"),
+                () -> assertThat(localCache.getIfPresent("1")).isEqualTo("로드된 상품"),
+                () -> assertThat(remoteCache.get(1L).get()).isEqualTo("로드된 상품")
+            );
+        }
+    }
+
+    @DisplayName("여러 키를 한 번에 조회할 때,")
+    @Nested
+    class GetAll {
+
+        @DisplayName("L1 에 없는 키만 L2 에 한 번에 요청하고, 찾은 값은 L1 에 채운다.")
+        @Test
+        void requestsOnlyLocalMissesFromRemote_inOneCall() {
+            // arrange
+            List<List<Object>> remoteCalls = new ArrayList<>();
+            TwoLevelCache cache = new TwoLevelCache(
+                CACHE_NAME, remoteCache, localCache, (name, key) -> {}, null,
+                new TwoLevelCacheMetrics(new SimpleMeterRegistry(), CACHE_NAME),
+                (name, keys) -> {
+                    remoteCalls.add(keys);
+                    return Map.of("2", "L2 상품");
+                }
+            );
+            localCache.put("1", "L1 상품");
+
+            // act
+            Map<String, Object> result = cache.getAll(List.of(1L, 2L, 3L));
+
+            // assert
+            assertAll(
+                () -> assertThat(result).containsOnly(Map.entry("1", "L1 상품"), Map.entry("2", "L2 상품")),
+                () -> assertThat(remoteCalls).containsExactly(List.of(2L, 3L)),
+                () -> assertThat(localCache.getIfPresent("2")).isEqualTo("L2 상품")
+            );
+        }
+    }
+
+    @DisplayName("캐시 밖에서 읽은 값을 여러 건 채울 때,")
+    @Nested
+    class PutAll {
+
+        @DisplayName("읽기 전 받아 둔 세대가 그대로면, 두 계층에 모두 채운다.")
+        @Test
+        void putsBothLevels_whenNotInvalidated() {
+            // arrange
+            long epoch = twoLevelCache.invalidationEpoch();
+
+            // act
+            boolean result = twoLevelCache.putAll(Map.of(1L, "상품1", 2L, "상품2"), epoch);
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isTrue(),
+                () -> assertThat(localCache.getIfPresent("1")).isEqualTo("상품1"),
+                () -> assertThat(remoteCache.get(2L).get()).isEqualTo("상품2")
+            );
+        }
+
+        @DisplayName("읽은 뒤 무효화가 끼어들었으면, 아무것도 채우지 않는다.")
+        @Test
+        void putsNothing_whenEvictedAfterRead() {
+            // arrange
+            long epoch = twoLevelCache.invalidationEpoch();
+            twoLevelCache.evict(1L);
+
+            // act
+            boolean result = twoLevelCache.putAll(Map.of(1L, "낡은 상품1", 2L, "낡은 상품2"), epoch);
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isFalse(),
+                () -> assertThat(localCache.getIfPresent("1")).isNull(),
+                () -> assertThat(remoteCache.get(1L)).isNull(),
+                () -> assertThat(remoteCache.get(2L)).isNull()
+            );
+        }
+    }
+
+    @DisplayName("무효화 시,")
+    @Nested
+    class Evict {
+
+        @DisplayName("두 계층에서 제거하고 다른 노드로 무효화 메시지를 발행한다.")
+        @Test
+        void evictsBothLevels_andPublishesInvalidation() {
+            // arrange
+            twoLevelCache.put(1L, "상품");
+
+            // act
+            twoLevelCache.evict(1L);
+
+            // assert
+            assertAll(
+                () -> assertThat(localCache.getIfPresent("1")).isNull(),
+                () -> assertThat(remoteCache.get(1L)).isNull(),
+                () -> assertThat(publishedKeys).containsExactly("1")
+            );
+        }
+
+        @DisplayName("다른 노드의 무효화 메시지는 L1 만 제거한다.")
+        @Test
+        void evictsOnlyLocal_whenInvalidationReceived() {
+            // arrange
+            twoLevelCache.put(1L, "상품");
+
+            // act
+            twoLevelCache.evictLocal("1");
+
+            // assert
+            assertAll(
+                () -> assertThat(localCache.getIfPresent("1")).isNull(),
+                () -> assertThat(remoteCache.get(1L).get()).isEqualTo("상품"),
+                () -> assertThat(publishedKeys).isEmpty()
+            );
+        }
+    }
+
+    @DisplayName("동시에 미스가 발생하면,")
+    @Nested
+    class SingleFlight {
+
+        @DisplayName("같은 키의 로더는 한 번만 실행되고, 모든 요청이 같은 값을 받는다.")
+        @Test
+        void runsLoaderOnce_whenConcurrentMisses() throws InterruptedException {
+            // arrange
+            int threadCount = 50;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch ready = new CountDownLatch(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threadCount);
+            List<Object> results = Collections.synchronizedList(new ArrayList<>());
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // act
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        ready.countDown();
+                        start.await();
+                        results.add(twoLevelCache.get(1L, () -> {
+                            loadCount.incrementAndGet();
+                            Thread.sleep(100);
+                            return "로드된 상품";
+                        }));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            start.countDown();
+            done.await(5, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // assert
+            assertAll(
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(results).hasSize(threadCount).containsOnly("로드된 상품")
+            );
+        }
+
+        @DisplayName("혼자 미스가 발생하면, L2 는 한 번만 조회한다.")
+        @Test
+        void readsRemoteOnce_whenMissed() {
+            // arrange
+            AtomicInteger remoteLookupCount = new AtomicInteger();
+            remoteCache = new ConcurrentMapCache(CACHE_NAME, false) {
+                @Override
+                protected Object lookup(Object key) {
+                    remoteLookupCount.incrementAndGet();
+                    return super.lookup(key);
+                }
+            };
+            TwoLevelCache cache = createCache((name, key) -> {}, null);
+
+            // act
+            Object result = cache.get(1L, () -> "로드된 상품");
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isEqualTo("로드된 상품"),
+                () -> assertThat(remoteLookupCount.get()).isEqualTo(1)
+            );
+        }
+    }
+
+    @DisplayName("L2 만료가 임박한 키를 조회하면,")
+    @Nested
+    class EarlyRefresh {
+
+        @DisplayName("기존 값을 반환하고, 백그라운드에서 새 값으로 갱신한다.")
+        @Test
+        void returnsCachedValue_andRefreshesInBackground() {
+            // arrange
+            TwoLevelCache cache = createCache(
+                (name, key) -> {},
+                new TwoLevelCache.EarlyRefreshPolicy(1.0, Runnable::run, (name, key) -> Duration.ZERO)
+            );
+            remoteCache.put(1L, "이전 상품");
+
+            // act
+            String result = cache.get(1L, () -> "새 상품");
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isEqualTo("이전 상품"),
+                () -> assertThat(remoteCache.get(1L).get()).isEqualTo("새 상품"),
+                () -> assertThat(localCache.getIfPresent("1")).isEqualTo("새 상품")
+            );
+        }
+
+        @DisplayName("만료까지 충분히 남았으면, 갱신하지 않는다.")
+        @Test
+        void doesNotRefresh_whenFarFromExpiry() {
+            // arrange
+            TwoLevelCache cache = createCache(
+                (name, key) -> {},
+                new TwoLevelCache.EarlyRefreshPolicy(1.0, Runnable::run, (name, key) -> Duration.ofDays(1))
+            );
+            remoteCache.put(1L, "이전 상품");
+
+            // act
+            cache.get(1L, () -> "새 상품");
+
+            // assert
+            assertThat(remoteCache.get(1L).get()).isEqualTo("이전 상품");
+        }
+    }
+
+    @DisplayName("지표 기록 시,")
+    @Nested
+    class Metrics {
+
+        @DisplayName("계층별 히트, 미스, 로드 시간이 캐시 이름 태그와 함께 기록된다.")
+        @Test
+        void recordsHitsMissesAndLoadTime() {
+            // arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            TwoLevelCache cache = new TwoLevelCache(
+                CACHE_NAME, remoteCache, localCache, (name, key) -> {}, null,
+                new TwoLevelCacheMetrics(registry, CACHE_NAME), null
+            );
+            remoteCache.put(2L, "L2 상품");
+
+            // act
+            cache.get(1L, () -> "로드된 상품");
+            cache.get(1L, () -> "로드된 상품");
+            cache.get(2L, () -> "로드된 상품");
+
+            // assert
+            assertAll(
+                () -> assertThat(registry.get("cache.gets").tags("cache", CACHE_NAME, "result", "miss").counter().count()).isEqualTo(1.0),
+                () -> assertThat(registry.get("cache.gets").tags("cache", CACHE_NAME, "level", "local").counter().count()).isEqualTo(1.0),
+                () -> assertThat(registry.get("cache.gets").tags("cache", CACHE_NAME, "level", "remote").counter().count()).isEqualTo(1.0),
+                () -> assertThat(registry.get("cache.load").tags("cache", CACHE_NAME, "result", "success").timer().count()).isEqualTo(1L)
+            );
+        }
+    }
+}
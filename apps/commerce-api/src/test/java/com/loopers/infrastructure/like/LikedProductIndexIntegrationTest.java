@@ -0,0 +1,80 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikedProductIndex;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class LikedProductIndexIntegrationTest {
+
+    private static final String KEY = "like:user:1:products";
+
+    @Autowired
+    private LikedProductIndex likedProductIndex;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("적재하면, 집합과 TTL 이 함께 설정된다.")
+    @Test
+    void setsTtl_whenLoaded() {
+        // act
+        likedProductIndex.load(1L, List.of(10L, 20L));
+
+        // assert
+        assertAll(
+            () -> assertThat(likedProductIndex.findLiked(1L, List.of(10L, 30L))).contains(Set.of(10L)),
+            () -> assertThat(redisTemplate.getExpire(KEY, TimeUnit.SECONDS)).isPositive()
+        );
+    }
+
+    @DisplayName("좋아요를 더해도, TTL 을 연장하지 않는다.")
+    @Test
+    void doesNotExtendTtl_whenAdded() {
+        // arrange
+        likedProductIndex.load(1L, List.of(10L));
+        redisTemplate.expire(KEY, 60, TimeUnit.SECONDS);
+
+        // act
+        likedProductIndex.add(1L, 20L);
+
+        // assert
+        assertAll(
+            () -> assertThat(likedProductIndex.findLiked(1L, List.of(20L))).contains(Set.of(20L)),
+            () -> assertThat(redisTemplate.getExpire(KEY, TimeUnit.SECONDS)).isLessThanOrEqualTo(60L)
+        );
+    }
+
+    @DisplayName("적재되지 않은 사용자에게 좋아요를 더하면, TTL 없는 키를 만들지 않는다.")
+    @Test
+    void doesNotCreateKey_whenNotLoaded() {
+        // act
+        likedProductIndex.add(1L, 20L);
+
+        // assert
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.PriceBucket;
+import com.loopers.domain.product.ProductFacetCount;
+import com.loopers.domain.product.ProductFacetRepository;
+import com.loopers.domain.product.ProductFacets;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class ProductFacetRepositoryIntegrationTest {
+
+    @Autowired
+    private ProductFacetRepository productFacetRepository;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("브랜드를 제거하면, 그 브랜드의 구간별 수만큼 전체 구간 카운터에서 빠진다.")
+    @Test
+    void subtractsBrandPrices_whenBrandRemoved() {
+        // arrange
+        productFacetRepository.increase(1L, 5_000, 2);
+        productFacetRepository.increase(1L, 20_000, 1);
+        productFacetRepository.increase(2L, 5_000, 3);
+
+        // act
+        productFacetRepository.removeBrand(1L);
+
+        // assert
+        ProductFacets facets = productFacetRepository.findFacets(null);
+        assertAll(
+            () -> assertThat(facets.brandCounts()).containsExactly(Map.entry(2L, 3L)),
+            () -> assertThat(facets.priceBucketCounts()).containsExactly(Map.entry(PriceBucket.UNDER_10000, 3L)),
+            () -> assertThat(productFacetRepository.findFacets(1L).priceBucketCounts()).isEmpty()
+        );
+    }
+
+    @DisplayName("전체를 다시 만들면, 새 카운터로 교체하고 사라진 브랜드의 구간 카운터를 지운다.")
+    @Test
+    void replacesCountersAndDropsRemovedBrands() {
+        // arrange
+        productFacetRepository.increase(1L, 5_000, 1);
+        productFacetRepository.increase(2L, 20_000, 4);
+
+        // act
+        productFacetRepository.replaceAll(List.of(
+            new ProductFacetCount(2L, PriceBucket.FROM_10000_TO_30000, 2),
+            new ProductFacetCount(3L, PriceBucket.OVER_100000, 1)
+        ));
+
+        // assert
+        ProductFacets facets = productFacetRepository.findFacets(null);
+        assertAll(
+            () -> assertThat(facets.brandCounts()).containsOnly(Map.entry(2L, 2L), Map.entry(3L, 1L)),
+            () -> assertThat(facets.priceBucketCounts())
+                .containsOnly(Map.entry(PriceBucket.FROM_10000_TO_30000, 2L), Map.entry(PriceBucket.OVER_100000, 1L)),
+            () -> assertThat(productFacetRepository.findFacets(1L).priceBucketCounts()).isEmpty(),
+            () -> assertThat(productFacetRepository.countProducts(null)).isEqualTo(3L)
+        );
+    }
+
+    @DisplayName("빈 목록으로 다시 만들면, 모든 카운터를 지운다.")
+    @Test
+    void clearsCounters_whenNothingCounted() {
+        // arrange
+        productFacetRepository.increase(1L, 5_000, 1);
+
+        // act
+        productFacetRepository.replaceAll(List.of());
+
+        // assert
+        ProductFacets facets = productFacetRepository.findFacets(1L);
+        assertAll(
+            () -> assertThat(facets.brandCounts()).isEmpty(),
+            () -> assertThat(facets.priceBucketCounts()).isEmpty(),
+            () -> assertThat(productFacetRepository.countProducts(null)).isZero()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeOrderRepository;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+class ProductLikeOrderRepositoryIntegrationTest {
+
+    @Autowired
+    private ProductLikeOrderRepository productLikeOrderRepository;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("좋아요 수가 같으면, MySQL 정렬과 같이 id 오름차순으로 반환한다.")
+    @Test
+    void ordersTiesByIdAscending() {
+        // arrange
+        productLikeOrderRepository.put(1L, 12L, 5L);
+        productLikeOrderRepository.put(1L, 11L, 5L);
+        productLikeOrderRepository.put(1L, 100L, 7L);
+
+        // act & assert
+        assertAll(
+            () -> assertThat(productLikeOrderRepository.findProductIds(null, 0, 10)).containsExactly(100L, 11L, 12L),
+            () -> assertThat(productLikeOrderRepository.findPosition(null, 12L)).isEqualTo(2L)
+        );
+    }
+
+    @DisplayName("적재된 임시 인덱스가 없으면, 교체해도 조회 중인 인덱스를 지우지 않는다.")
+    @Test
+    void keepsLiveIndex_whenNothingStaged() {
+        // arrange
+        productLikeOrderRepository.put(1L, 10L, 3L);
+
+        // act
+        productLikeOrderRepository.publishRebuild("empty-rebuild");
+
+        // assert
+        assertAll(
+            () -> assertThat(productLikeOrderRepository.isReady()).isTrue(),
+            () -> assertThat(productLikeOrderRepository.findProductIds(null, 0, 10)).containsExactly(10L),
+            () -> assertThat(productLikeOrderRepository.findProductIds(1L, 0, 10)).containsExactly(10L)
+        );
+    }
+}
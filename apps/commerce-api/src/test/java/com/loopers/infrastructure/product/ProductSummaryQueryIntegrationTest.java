@@ -0,0 +1,104 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductPriceRange;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSort;
+import com.loopers.domain.product.ProductSummary;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 목록 요약 조회(QueryDSL 프로젝션 + 브랜드 조인)가 컬럼을 올바른 순서로 채우는지 실제 DB 로 검증한다.
+ */
+@SpringBootTest
+class ProductSummaryQueryIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("요약 조회 시, 상품 컬럼과 조인한 브랜드명이 모두 채워진다.")
+    @Test
+    void fillsAllColumnsWithBrandName() {
+        // arrange
+        Brand brand = brandJpaRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+        Product product = new Product(brand.getId(), "에어맥스", "가벼운 러닝화", 150000, 7, "http://airmax.url");
+        product.increaseLikeCount();
+        Product saved = productJpaRepository.save(product);
+
+        // act
+        List<ProductSummary> result = productRepository.findSummaries(null, ProductPriceRange.ALL, ProductSort.PRICE_ASC, 0, 10);
+
+        // assert
+        assertThat(result).hasSize(1);
+        ProductSummary summary = result.get(0);
+        assertAll(
+            () -> assertThat(summary.productId()).isEqualTo(saved.getId()),
+            () -> assertThat(summary.productName()).isEqualTo("에어맥스"),
+            () -> assertThat(summary.description()).isEqualTo("가벼운 러닝화"),
+            () -> assertThat(summary.price()).isEqualTo(150000),
+            () -> assertThat(summary.stock()).isEqualTo(7),
+            () -> assertThat(summary.imageUrl()).isEqualTo("http://airmax.url"),
+            () -> assertThat(summary.brandId()).isEqualTo(brand.getId()),
+            () -> assertThat(summary.brandName()).isEqualTo("나이키"),
+            () -> assertThat(summary.likeCount()).isEqualTo(1L),
+            () -> assertThat(summary.updatedAt()).isNotNull()
+        );
+    }
+
+    @DisplayName("브랜드와 가격 조건으로 조회하면, 삭제되지 않은 조건 내 상품만 정렬 순서대로 반환한다.")
+    @Test
+    void filtersByBrandAndPrice_inSortOrder() {
+        // arrange
+        Brand nike = brandJpaRepository.save(new Brand("나이키", "스포츠 브랜드", "http://nike.url"));
+        Brand adidas = brandJpaRepository.save(new Brand("아디다스", "스포츠 브랜드", "http://adidas.url"));
+        Product expensive = productJpaRepository.save(new Product(nike.getId(), "비싼 상품", "설명", 30000, 10, "http://1.url"));
+        Product cheap = productJpaRepository.save(new Product(nike.getId(), "싼 상품", "설명", 10000, 10, "http://2.url"));
+        productJpaRepository.save(new Product(nike.getId(), "범위 밖 상품", "설명", 90000, 10, "http://3.url"));
+        productJpaRepository.save(new Product(adidas.getId(), "다른 브랜드 상품", "설명", 20000, 10, "http://4.url"));
+        Product deleted = new Product(nike.getId(), "삭제된 상품", "설명", 20000, 10, "http://5.url");
+        deleted.delete();
+        productJpaRepository.save(deleted);
+
+        // act
+        List<ProductSummary> result = productRepository.findSummaries(
+            nike.getId(), ProductPriceRange.of(10000, 50000), ProductSort.PRICE_ASC, 0, 10
+        );
+
+        // assert
+        assertAll(
+            () -> assertThat(result).extracting(ProductSummary::productId).containsExactly(cheap.getId(), expensive.getId()),
+            () -> assertThat(result).extracting(ProductSummary::brandName).containsOnly("나이키")
+        );
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -95,6 +96,18 @@ class RankingIntegrationTest {
         }
     }
 
+    @DisplayName("여러 상품의 순위를 한 번에 조회하면, 랭킹에 있는 상품만 순위를 반환한다.")
+    @Test
+    void returnsRanksOfManyProductsAtOnce() {
+        addScore("20260410", 1L, 100.0);
+        addScore("20260410", 2L, 300.0);
+        addScore("20260410", 3L, 200.0);
+
+        Map<Long, Long> ranks = rankingService.getRanks("20260410", List.of(3L, 999L, 1L, 2L));
+
+        assertThat(ranks).containsOnly(Map.entry(2L, 1L), Map.entry(3L, 2L), Map.entry(1L, 3L));
+    }
+
     @DisplayName("순위가 없는 상품 조회 시 null을 반환한다.")
     @Test
     void returnsNullRankForUnrankedProduct() {
@@ -0,0 +1,52 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.application.product.ProductInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ProductETagsTest {
+
+    private static final ZonedDateTime UPDATED_AT = ZonedDateTime.of(2026, 1, 1, 9, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+
+    private static ProductInfo productInfo(long likeCount, ZonedDateTime updatedAt) {
+        return new ProductInfo(1L, "에어맥스", "운동화", 150000, 20, "http://airmax.url",
+            1L, "나이키", likeCount, false, 3L, updatedAt);
+    }
+
+    @DisplayName("같은 내용이면 존이 달라도 ETag 가 같고, 좋아요 수가 바뀌면 ETag 가 달라진다.")
+    @Test
+    void changesOnlyWhenRepresentationChanges() {
+        // arrange
+        ProductInfo original = productInfo(10, UPDATED_AT);
+        ProductInfo sameInstantInUtc = productInfo(10, UPDATED_AT.withZoneSameInstant(ZoneOffset.UTC));
+        ProductInfo liked = productInfo(11, UPDATED_AT);
+
+        // act & assert
+        assertAll(
+            () -> assertThat(ProductETags.of(original)).isEqualTo(ProductETags.of(sameInstantInUtc)),
+            () -> assertThat(ProductETags.of(original)).isNotEqualTo(ProductETags.of(liked)),
+            () -> assertThat(ProductETags.of(original)).startsWith("\"").endsWith("\"")
+        );
+    }
+
+    @DisplayName("목록의 Last-Modified 는 가장 최근 updatedAt 이다.")
+    @Test
+    void listLastModifiedIsLatestUpdatedAt() {
+        // arrange
+        List<ProductInfo> infos = List.of(productInfo(1, UPDATED_AT), productInfo(1, UPDATED_AT.plusHours(1)), productInfo(1, null));
+
+        // act
+        long lastModified = ProductETags.lastModified(infos);
+
+        // assert
+        assertThat(lastModified).isEqualTo(UPDATED_AT.plusHours(1).toInstant().toEpochMilli());
+    }
+}
@@ -7,10 +7,12 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.function.Consumer;
 @EnableConfigurationProperties(RedisProperties.class)
 public class RedisConfig{
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    private static final String CONNECTION_PUBSUB = "redisConnectionPubSub";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
 
     private final RedisProperties redisProperties;
@@ -52,6 +55,25 @@ public class RedisConfig{
         );
     }
 
+    // Master/Replica 정적 구성 연결은 Pub/Sub 을 지원하지 않으므로, 구독 전용으로 master 단독 연결을 둔다.
+    @Qualifier(CONNECTION_PUBSUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory() {
+        RedisNodeInfo master = redisProperties.master();
+        RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration(master.host(), master.port());
+        standaloneConfig.setDatabase(redisProperties.database());
+        return new LettuceConnectionFactory(standaloneConfig);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            @Qualifier(CONNECTION_PUBSUB) LettuceConnectionFactory lettuceConnectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        return container;
+    }
+
     @Primary
     @Bean
     public RedisTemplate<String, String> defaultRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {